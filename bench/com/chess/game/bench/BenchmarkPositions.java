@@ -0,0 +1,35 @@
+package com.chess.game.bench;
+
+import com.chess.game.board.Board;
+import com.chess.game.board.FenParser;
+
+public final class BenchmarkPositions {
+    public static final String OPENING = "opening";
+    public static final String MIDDLEGAME = "middlegame";
+    public static final String ENDGAME = "endgame";
+
+    private static final String OPENING_FEN = "r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 2 3";
+    private static final String MIDDLEGAME_FEN = "r2q1rk1/pp2bppp/2n1bn2/2pp4/3P4/2N1PN2/PP2BPPP/R1BQ1RK1 w - - 0 9";
+    private static final String ENDGAME_FEN = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+
+    private BenchmarkPositions() {
+        throw new RuntimeException("You can not create me!");
+    }
+
+    public static String getFen(final String position) {
+        switch (position) {
+            case OPENING:
+                return OPENING_FEN;
+            case MIDDLEGAME:
+                return MIDDLEGAME_FEN;
+            case ENDGAME:
+                return ENDGAME_FEN;
+            default:
+                throw new RuntimeException("Unknown benchmark position " + position + "!");
+        }
+    }
+
+    public static Board createBoard(final String position) {
+        return FenParser.createBoard(getFen(position));
+    }
+}
@@ -0,0 +1,31 @@
+package com.chess.game.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public final class BenchmarkRunner {
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+        throw new RuntimeException("You can not create me!");
+    }
+
+    public static void main(String args[]) throws RunnerException {
+        final String includes = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".*";
+        final String resultFile = args.length > 1 ? args[1] : DEFAULT_RESULT_FILE;
+        final Options options = new OptionsBuilder()
+                .include(includes)
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+        new Runner(options).run();
+    }
+}
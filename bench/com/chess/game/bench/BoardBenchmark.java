@@ -0,0 +1,49 @@
+package com.chess.game.bench;
+
+import com.chess.game.board.Board;
+import com.chess.game.board.FenParser;
+import com.chess.game.player.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardBenchmark {
+    @Param({BenchmarkPositions.OPENING, BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.ENDGAME})
+    public String position;
+
+    private String fen;
+    private Board board;
+    private List<Move> legalMoves;
+
+    @Setup
+    public void setUp() {
+        this.fen = BenchmarkPositions.getFen(this.position);
+        this.board = BenchmarkPositions.createBoard(this.position);
+        this.legalMoves = this.board.getCurrentPlayer().getLegalMoves();
+    }
+
+    @Benchmark
+    public Board createBoard() {
+        return FenParser.createBoard(this.fen);
+    }
+
+    @Benchmark
+    public void executeMoves(final Blackhole blackhole, final NodeCounter counter) {
+        for (final Move move : this.legalMoves) {
+            blackhole.consume(move.execute(this.board));
+        }
+        counter.nodes += this.legalMoves.size();
+    }
+}
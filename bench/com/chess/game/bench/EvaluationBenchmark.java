@@ -0,0 +1,59 @@
+package com.chess.game.bench;
+
+import com.chess.game.board.Board;
+import com.chess.game.board.MutableBoard;
+import com.chess.game.player.Move;
+import com.chess.game.player.ai.BoardEvaluator;
+import com.chess.game.player.ai.StandardBoardEvaluator;
+import com.chess.game.player.ai.TaperedBoardEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EvaluationBenchmark {
+    @Param({BenchmarkPositions.OPENING, BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.ENDGAME})
+    public String position;
+
+    @Param({"standard", "tapered"})
+    public String evaluator;
+
+    private BoardEvaluator boardEvaluator;
+    private Board board;
+    private List<Move> legalMoves;
+    private MutableBoard mutableBoard;
+
+    @Setup
+    public void setUp() {
+        this.boardEvaluator = this.evaluator.equals("tapered") ? new TaperedBoardEvaluator() : new StandardBoardEvaluator();
+        this.board = BenchmarkPositions.createBoard(this.position);
+        this.legalMoves = this.board.getCurrentPlayer().getLegalMoves();
+        this.mutableBoard = new MutableBoard(this.board);
+    }
+
+    @Benchmark
+    public int evaluateExecutedBoards(final NodeCounter counter) {
+        int score = 0;
+        for (final Move move : this.legalMoves) {
+            score += this.boardEvaluator.evaluate(move.execute(this.board), 0);
+        }
+        counter.nodes += this.legalMoves.size();
+        return score;
+    }
+
+    @Benchmark
+    public int evaluateMutableBoard(final NodeCounter counter) {
+        counter.nodes++;
+        return this.boardEvaluator.evaluate(this.mutableBoard, 0);
+    }
+}
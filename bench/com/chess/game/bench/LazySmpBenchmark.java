@@ -0,0 +1,51 @@
+package com.chess.game.bench;
+
+import com.chess.game.board.Board;
+import com.chess.game.player.Move;
+import com.chess.game.player.ai.LazySmp;
+import com.chess.game.player.ai.TranspositionTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LazySmpBenchmark {
+    private static final int TRANSPOSITION_TABLE_MEGABYTES = 64;
+
+    @Param({BenchmarkPositions.OPENING, BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.ENDGAME})
+    public String position;
+
+    @Param({"6"})
+    public int depth;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private Board board;
+    private TranspositionTable transpositionTable;
+    private LazySmp lazySmp;
+
+    @Setup
+    public void setUp() {
+        this.board = BenchmarkPositions.createBoard(this.position);
+        this.transpositionTable = new TranspositionTable(TRANSPOSITION_TABLE_MEGABYTES);
+        this.lazySmp = new LazySmp(this.threads, Long.MAX_VALUE, this.depth, this.transpositionTable);
+    }
+
+    @Benchmark
+    public Move timeToDepth(final NodeCounter counter) {
+        this.transpositionTable.clear();
+        final Move move = this.lazySmp.execute(this.board);
+        counter.nodes += this.lazySmp.getNodeCount();
+        return move;
+    }
+}
@@ -0,0 +1,79 @@
+package com.chess.game.bench;
+
+import com.chess.game.Perft;
+import com.chess.game.board.Board;
+import com.chess.game.board.MutableBoard;
+import com.chess.game.pieces.Piece;
+import com.chess.game.player.Move;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoveGenerationBenchmark {
+    @Param({BenchmarkPositions.OPENING, BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.ENDGAME})
+    public String position;
+
+    private Board board;
+    private Board[] childBoards;
+    private MutableBoard mutableBoard;
+    private int[] moves;
+    private Perft perft;
+
+    @Setup
+    public void setUp() {
+        this.board = BenchmarkPositions.createBoard(this.position);
+        this.mutableBoard = new MutableBoard(this.board);
+        this.moves = new int[MutableBoard.MAX_MOVES];
+        this.perft = new Perft(0);
+        final List<Move> legalMoves = this.board.getCurrentPlayer().getLegalMoves();
+        this.childBoards = new Board[legalMoves.size()];
+        for (int i = 0; i < this.childBoards.length; i++) {
+            this.childBoards[i] = legalMoves.get(i).execute(this.board);
+        }
+    }
+
+    @Benchmark
+    public void pieceLegalMoves(final Blackhole blackhole, final NodeCounter counter) {
+        for (final Board childBoard : this.childBoards) {
+            for (final Piece piece : childBoard.getCurrentPlayer().getActivePieces()) {
+                for (final Move move : piece.calculateLegalMoves(childBoard)) {
+                    blackhole.consume(move);
+                    counter.nodes++;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public long boardPerft(final NodeCounter counter) {
+        final long nodes = this.perft.perft(this.board, 3);
+        counter.nodes += nodes;
+        return nodes;
+    }
+
+    @Benchmark
+    public int mutableBoardMakeUnmake(final NodeCounter counter) {
+        final int moveCount = this.mutableBoard.generateMoves(this.moves);
+        int legalMoves = 0;
+        for (int i = 0; i < moveCount; i++) {
+            if (this.mutableBoard.makeMove(this.moves[i])) {
+                this.mutableBoard.unmakeMove();
+                legalMoves++;
+            }
+        }
+        counter.nodes += legalMoves;
+        return legalMoves;
+    }
+}
@@ -0,0 +1,18 @@
+package com.chess.game.bench;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class NodeCounter {
+    public long nodes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        this.nodes = 0;
+    }
+}
@@ -0,0 +1,50 @@
+package com.chess.game.bench;
+
+import com.chess.game.board.Board;
+import com.chess.game.player.Move;
+import com.chess.game.player.ai.AlphaBeta;
+import com.chess.game.player.ai.MiniMax;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SearchBenchmark {
+    @Param({BenchmarkPositions.OPENING, BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.ENDGAME})
+    public String position;
+
+    @Param({"3"})
+    public int depth;
+
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        this.board = BenchmarkPositions.createBoard(this.position);
+    }
+
+    @Benchmark
+    public Move miniMax(final NodeCounter counter) {
+        final MiniMax miniMax = new MiniMax(this.depth);
+        final Move move = miniMax.execute(this.board);
+        counter.nodes += miniMax.getNodeCount();
+        return move;
+    }
+
+    @Benchmark
+    public Move alphaBeta(final NodeCounter counter) {
+        final AlphaBeta alphaBeta = new AlphaBeta(this.depth);
+        final Move move = alphaBeta.execute(this.board);
+        counter.nodes += alphaBeta.getNodeCount();
+        return move;
+    }
+}
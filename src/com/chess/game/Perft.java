@@ -0,0 +1,193 @@
+package com.chess.game;
+
+import com.chess.game.board.Board;
+import com.chess.game.board.BoardUtils;
+import com.chess.game.board.FenParser;
+import com.chess.game.player.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+public final class Perft {
+    private static final String USAGE = "Usage: Perft <depth> [--fen <fen>] [--threads <count>] [--hash <megabytes>]";
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int DEPTH_SHIFT = 56;
+    private static final long COUNT_MASK = (1L << DEPTH_SHIFT) - 1;
+
+    private final long[] entries;
+    private final int entryMask;
+
+    public Perft(final int hashSizeInMegabytes) {
+        if (hashSizeInMegabytes > 0) {
+            final long entryCount = (long)hashSizeInMegabytes * 1024 * 1024 / BYTES_PER_ENTRY;
+            final int capacity = Integer.highestOneBit((int)Math.min(entryCount, Integer.MAX_VALUE / 2));
+            this.entries = new long[capacity * 2];
+            this.entryMask = capacity - 1;
+        } else {
+            this.entries = null;
+            this.entryMask = 0;
+        }
+    }
+
+    public long perft(final Board board, final int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        final List<Move> legalMoves = board.getCurrentPlayer().getLegalMoves();
+        if (depth == 1) {
+            return legalMoves.size();
+        }
+        final long cachedCount = this.probe(board.getZobristKey(), depth);
+        if (cachedCount >= 0) {
+            return cachedCount;
+        }
+        long nodes = 0;
+        for (final Move move : legalMoves) {
+            nodes += this.perft(move.execute(board), depth - 1);
+        }
+        this.store(board.getZobristKey(), depth, nodes);
+        return nodes;
+    }
+
+    public List<Divide> divide(final Board board, final int depth, final ForkJoinPool pool) {
+        final List<DivideTask> tasks = new ArrayList<>();
+        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+            tasks.add(new DivideTask(this, board, move, depth - 1));
+        }
+        return pool.invoke(new RecursiveTask<List<Divide>>() {
+            @Override
+            protected List<Divide> compute() {
+                invokeAll(tasks);
+                final List<Divide> divides = new ArrayList<>(tasks.size());
+                for (final DivideTask task : tasks) {
+                    divides.add(task.join());
+                }
+                return divides;
+            }
+        });
+    }
+
+    private long probe(final long zobristKey, final int depth) {
+        if (this.entries == null) {
+            return -1;
+        }
+        final int index = ((int)zobristKey & this.entryMask) * 2;
+        final long data = this.entries[index + 1];
+        if ((this.entries[index] ^ data) == zobristKey && (int)(data >>> DEPTH_SHIFT) == depth) {
+            return data & COUNT_MASK;
+        }
+        return -1;
+    }
+
+    private void store(final long zobristKey, final int depth, final long nodes) {
+        if (this.entries == null) {
+            return;
+        }
+        final int index = ((int)zobristKey & this.entryMask) * 2;
+        final long data = (long)depth << DEPTH_SHIFT | (nodes & COUNT_MASK);
+        this.entries[index] = zobristKey ^ data;
+        this.entries[index + 1] = data;
+    }
+
+    public static final class Divide {
+        private final Move move;
+        private final long nodes;
+
+        private Divide(final Move move, final long nodes) {
+            this.move = move;
+            this.nodes = nodes;
+        }
+
+        public Move getMove() {
+            return this.move;
+        }
+
+        public long getNodes() {
+            return this.nodes;
+        }
+
+        @Override
+        public String toString() {
+            return BoardUtils.getPositionAtCoordinate(this.move.getSourceDestination()) +
+                   BoardUtils.getPositionAtCoordinate(this.move.getDestinationDestination()) + ": " + this.nodes;
+        }
+    }
+
+    private static final class DivideTask extends RecursiveTask<Divide> {
+        private static final long serialVersionUID = 1L;
+
+        private final Perft perft;
+        private final Board board;
+        private final Move move;
+        private final int depth;
+
+        private DivideTask(final Perft perft, final Board board, final Move move, final int depth) {
+            this.perft = perft;
+            this.board = board;
+            this.move = move;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Divide compute() {
+            return new Divide(this.move, this.perft.perft(this.move.execute(this.board), this.depth));
+        }
+    }
+
+    public static void main(String args[]) {
+        if (args.length == 0) {
+            System.out.println(USAGE);
+            return;
+        }
+        String fen = null;
+        final int depth;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int hashSizeInMegabytes = 0;
+        try {
+            depth = Integer.parseInt(args[0]);
+            for (int i = 1; i < args.length; i += 2) {
+                if (i + 1 >= args.length) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                if (args[i].equals("--fen")) {
+                    fen = args[i + 1];
+                } else if (args[i].equals("--threads")) {
+                    threads = Integer.parseInt(args[i + 1]);
+                } else if (args[i].equals("--hash")) {
+                    hashSizeInMegabytes = Integer.parseInt(args[i + 1]);
+                } else {
+                    System.out.println(USAGE);
+                    return;
+                }
+            }
+        } catch (final NumberFormatException e) {
+            System.out.println(USAGE);
+            return;
+        }
+        if (depth < 1) {
+            System.out.println(USAGE);
+            return;
+        }
+        final Board board = fen == null ? Board.createStandardBoard() : FenParser.createBoard(fen);
+        final Perft perft = new Perft(hashSizeInMegabytes);
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        final long startTime = System.nanoTime();
+        final List<Divide> divides = perft.divide(board, depth, pool);
+        final long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+        pool.shutdown();
+        long nodes = 0;
+        for (final Divide divide : divides) {
+            System.out.println(divide);
+            nodes += divide.getNodes();
+        }
+        System.out.println();
+        System.out.println("Moves: " + divides.size());
+        System.out.println("Nodes: " + nodes);
+        System.out.println("Time: " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms");
+        System.out.println("Nodes per second: " + (long)(nodes / (elapsedNanos / (double)TimeUnit.SECONDS.toNanos(1))));
+    }
+}
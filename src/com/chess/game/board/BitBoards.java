@@ -0,0 +1,124 @@
+package com.chess.game.board;
+
+import com.chess.game.Alliance;
+import com.chess.game.pieces.PieceType;
+
+public final class BitBoards {
+    public static final long EMPTY = 0L;
+    public static final int NUMBER_OF_PIECE_TYPES = PieceType.values().length;
+    public static final int NUMBER_OF_PIECE_BIT_BOARDS = NUMBER_OF_PIECE_TYPES * Alliance.values().length;
+
+    private static final int[] KNIGHT_ROW_OFFSETS = {-1, -1, 1, 1, -2, -2, 2, 2};
+    private static final int[] KNIGHT_COLUMN_OFFSETS = {-2, 2, -2, 2, -1, 1, -1, 1};
+    private static final int[] KING_ROW_OFFSETS = {0, 0, -1, 1, -1, -1, 1, 1};
+    private static final int[] KING_COLUMN_OFFSETS = {-1, 1, 0, 0, -1, 1, -1, 1};
+    private static final int[] PAWN_COLUMN_OFFSETS = {-1, 1};
+
+    private static final long[] KNIGHT_ATTACKS = createLeaperAttacks(KNIGHT_ROW_OFFSETS, KNIGHT_COLUMN_OFFSETS);
+    private static final long[] KING_ATTACKS = createLeaperAttacks(KING_ROW_OFFSETS, KING_COLUMN_OFFSETS);
+    private static final long[] WHITE_PAWN_ATTACKS = createLeaperAttacks(new int[] {-1, -1}, PAWN_COLUMN_OFFSETS);
+    private static final long[] BLACK_PAWN_ATTACKS = createLeaperAttacks(new int[] {1, 1}, PAWN_COLUMN_OFFSETS);
+    private static final long[][] BETWEEN_SQUARES = new long[BoardUtils.NUMBER_OF_BOARD_TILES][BoardUtils.NUMBER_OF_BOARD_TILES];
+    private static final long[][] LINE_SQUARES = new long[BoardUtils.NUMBER_OF_BOARD_TILES][BoardUtils.NUMBER_OF_BOARD_TILES];
+
+    static {
+        for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+            for (int j = 0; j < KING_ROW_OFFSETS.length; j++) {
+                initLine(i, KING_ROW_OFFSETS[j], KING_COLUMN_OFFSETS[j]);
+            }
+        }
+    }
+
+    private BitBoards() {
+        throw new RuntimeException("You can not create me!");
+    }
+
+    private static long[] createLeaperAttacks(final int[] rowOffsets, final int[] columnOffsets) {
+        final long[] attacks = new long[BoardUtils.NUMBER_OF_BOARD_TILES];
+        for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+            final int row = i / BoardUtils.BOARD_COLUMNS;
+            final int column = i % BoardUtils.BOARD_COLUMNS;
+            for (int j = 0; j < rowOffsets.length; j++) {
+                final int rowCandidate = row + rowOffsets[j];
+                final int columnCandidate = column + columnOffsets[j];
+                if (rowCandidate >= 0 && rowCandidate < BoardUtils.BOARD_ROWS && columnCandidate >= 0 && columnCandidate < BoardUtils.BOARD_COLUMNS) {
+                    attacks[i] |= squareMask(rowCandidate * BoardUtils.BOARD_COLUMNS + columnCandidate);
+                }
+            }
+        }
+        return attacks;
+    }
+
+    private static void initLine(final int tileCoordinate, final int rowOffset, final int columnOffset) {
+        final long line = squareMask(tileCoordinate) |
+                          createRay(tileCoordinate, rowOffset, columnOffset) |
+                          createRay(tileCoordinate, -rowOffset, -columnOffset);
+        long between = EMPTY;
+        int row = tileCoordinate / BoardUtils.BOARD_COLUMNS + rowOffset;
+        int column = tileCoordinate % BoardUtils.BOARD_COLUMNS + columnOffset;
+        while (row >= 0 && row < BoardUtils.BOARD_ROWS && column >= 0 && column < BoardUtils.BOARD_COLUMNS) {
+            final int square = row * BoardUtils.BOARD_COLUMNS + column;
+            BETWEEN_SQUARES[tileCoordinate][square] = between;
+            LINE_SQUARES[tileCoordinate][square] = line;
+            between |= squareMask(square);
+            row += rowOffset;
+            column += columnOffset;
+        }
+    }
+
+    private static long createRay(final int tileCoordinate, final int rowOffset, final int columnOffset) {
+        long ray = EMPTY;
+        int row = tileCoordinate / BoardUtils.BOARD_COLUMNS + rowOffset;
+        int column = tileCoordinate % BoardUtils.BOARD_COLUMNS + columnOffset;
+        while (row >= 0 && row < BoardUtils.BOARD_ROWS && column >= 0 && column < BoardUtils.BOARD_COLUMNS) {
+            ray |= squareMask(row * BoardUtils.BOARD_COLUMNS + column);
+            row += rowOffset;
+            column += columnOffset;
+        }
+        return ray;
+    }
+
+    public static long betweenSquares(final int firstTileCoordinate, final int secondTileCoordinate) {
+        return BETWEEN_SQUARES[firstTileCoordinate][secondTileCoordinate];
+    }
+
+    public static long lineSquares(final int firstTileCoordinate, final int secondTileCoordinate) {
+        return LINE_SQUARES[firstTileCoordinate][secondTileCoordinate];
+    }
+
+    public static long knightAttacks(final int tileCoordinate) {
+        return KNIGHT_ATTACKS[tileCoordinate];
+    }
+
+    public static long kingAttacks(final int tileCoordinate) {
+        return KING_ATTACKS[tileCoordinate];
+    }
+
+    public static long pawnAttacks(final Alliance pawnAlliance, final int tileCoordinate) {
+        return pawnAlliance == Alliance.WHITE ? WHITE_PAWN_ATTACKS[tileCoordinate] : BLACK_PAWN_ATTACKS[tileCoordinate];
+    }
+
+    public static long squareMask(final int tileCoordinate) {
+        return 1L << tileCoordinate;
+    }
+
+    public static boolean isSet(final long bitBoard, final int tileCoordinate) {
+        return (bitBoard & (1L << tileCoordinate)) != 0;
+    }
+
+    public static int firstSquare(final long bitBoard) {
+        return Long.numberOfTrailingZeros(bitBoard);
+    }
+
+    public static long withoutFirstSquare(final long bitBoard) {
+        return bitBoard & (bitBoard - 1);
+    }
+
+    public static int countSquares(final long bitBoard) {
+        return Long.bitCount(bitBoard);
+    }
+
+    public static int pieceIndex(final PieceType pieceType, final Alliance pieceAlliance) {
+        return pieceAlliance.ordinal() * NUMBER_OF_PIECE_TYPES + pieceType.ordinal();
+    }
+}
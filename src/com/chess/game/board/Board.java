@@ -6,97 +6,360 @@ import com.chess.game.player.BlackPlayer;
 import com.chess.game.player.Move;
 import com.chess.game.player.Player;
 import com.chess.game.player.WhitePlayer;
-import javafx.util.Pair;
 
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public final class Board {
-    private final List<Tile> gameBoard;
-    private final List<Piece> whitePieces;
-    private final List<Piece> blackPieces;
-    private final WhitePlayer whitePlayer;
-    private final BlackPlayer blackPlayer;
-    private final Player currentPlayer;
+    private final Piece[] boardPieces;
+    private final long[] pieceBitBoards;
+    private final long whiteOccupancy;
+    private final long blackOccupancy;
+    private final long occupancy;
+    private final int whiteMaterial;
+    private final int blackMaterial;
+    private final int whitePositionalScore;
+    private final int blackPositionalScore;
+    private List<Piece> whitePieces;
+    private List<Piece> blackPieces;
+    private final Alliance nextMoveMaker;
     private final Pawn enPassantPawn;
+    private final long zobristKey;
+    private final long pawnZobristKey;
+    private List<Tile> gameBoard;
+    private List<Move> whiteLegalMoves;
+    private List<Move> blackLegalMoves;
+    private WhitePlayer whitePlayer;
+    private BlackPlayer blackPlayer;
 
-    private static List<Tile> createBoardTiles(final Builder builder) {
-        List<Tile> tiles = new ArrayList<>();
-        for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
-            tiles.add(Tile.createTile(i, builder.getPiece(i)));
+    private static Piece[] createBoardPieces(final Builder builder) {
+        final Piece[] pieces = new Piece[BoardUtils.NUMBER_OF_BOARD_TILES];
+        for (final Map.Entry<Integer, Piece> entry : builder.boardConfig.entrySet()) {
+            pieces[entry.getKey()] = entry.getValue();
         }
-        return Collections.unmodifiableList(tiles);
+        return pieces;
     }
 
-    private List<Piece> calculatePieces(final Alliance pieceAlliance) {
-        List<Piece> pieces = new ArrayList<>();
-        for (final Tile tile : this.gameBoard) {
-            if (tile.isTileOccupied()) {
-                Piece piece = tile.getPiece();
-                if (piece.getPieceAlliance() == pieceAlliance) {
-                    pieces.add(piece);
-                }
+    private static long[] createPieceBitBoards(final Piece[] boardPieces) {
+        final long[] bitBoards = new long[BitBoards.NUMBER_OF_PIECE_BIT_BOARDS];
+        for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+            final Piece piece = boardPieces[i];
+            if (piece != null) {
+                bitBoards[BitBoards.pieceIndex(piece.getPieceType(), piece.getPieceAlliance())] |= BitBoards.squareMask(i);
             }
         }
+        return bitBoards;
+    }
+
+    private long calculateOccupancy(final Alliance pieceAlliance) {
+        long allianceOccupancy = BitBoards.EMPTY;
+        for (final PieceType pieceType : PieceType.values()) {
+            allianceOccupancy |= this.getPieceBitBoard(pieceType, pieceAlliance);
+        }
+        return allianceOccupancy;
+    }
+
+    private int calculateMaterial(final long allianceOccupancy) {
+        int material = 0;
+        for (long squares = allianceOccupancy; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            material += this.boardPieces[BitBoards.firstSquare(squares)].getPieceValue();
+        }
+        return material;
+    }
+
+    private int calculatePositionalScore(final long allianceOccupancy) {
+        int positionalScore = 0;
+        for (long squares = allianceOccupancy; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            positionalScore += PieceSquareTables.getValue(this.boardPieces[BitBoards.firstSquare(squares)]);
+        }
+        return positionalScore;
+    }
+
+    private boolean hasConsistentScores() {
+        return this.whiteMaterial == this.calculateMaterial(this.whiteOccupancy) &&
+               this.blackMaterial == this.calculateMaterial(this.blackOccupancy) &&
+               this.whitePositionalScore == this.calculatePositionalScore(this.whiteOccupancy) &&
+               this.blackPositionalScore == this.calculatePositionalScore(this.blackOccupancy);
+    }
+
+    private List<Piece> calculatePieces(final long allianceOccupancy) {
+        final List<Piece> pieces = new ArrayList<>(BitBoards.countSquares(allianceOccupancy));
+        for (long squares = allianceOccupancy; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            pieces.add(this.boardPieces[BitBoards.firstSquare(squares)]);
+        }
         return Collections.unmodifiableList(pieces);
     }
 
     private List<Piece> getActivePieces(final Alliance pieceAlliance) {
-        return pieceAlliance == Alliance.WHITE ? this.whitePieces : this.blackPieces;
+        return pieceAlliance == Alliance.WHITE ? this.getWhitePieces() : this.getBlackPieces();
     }
 
     public List<Tile> getTiles() {
+        if (this.gameBoard == null) {
+            final List<Tile> tiles = new ArrayList<>(BoardUtils.NUMBER_OF_BOARD_TILES);
+            for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+                tiles.add(Tile.createTile(i, this.boardPieces[i]));
+            }
+            this.gameBoard = Collections.unmodifiableList(tiles);
+        }
         return this.gameBoard;
     }
 
+    public long getPieceBitBoard(final PieceType pieceType, final Alliance pieceAlliance) {
+        return this.pieceBitBoards[BitBoards.pieceIndex(pieceType, pieceAlliance)];
+    }
+
+    public long getAllianceOccupancy(final Alliance pieceAlliance) {
+        return pieceAlliance == Alliance.WHITE ? this.whiteOccupancy : this.blackOccupancy;
+    }
+
+    public long getOccupancy() {
+        return this.occupancy;
+    }
+
+    public int getMaterial(final Alliance pieceAlliance) {
+        return pieceAlliance == Alliance.WHITE ? this.whiteMaterial : this.blackMaterial;
+    }
+
+    public int getPositionalScore(final Alliance pieceAlliance) {
+        return pieceAlliance == Alliance.WHITE ? this.whitePositionalScore : this.blackPositionalScore;
+    }
+
+    public boolean isTileOccupied(final int tilePosition) {
+        return BitBoards.isSet(this.occupancy, tilePosition);
+    }
+
+    public Piece getPiece(final int tilePosition) {
+        return this.boardPieces[tilePosition];
+    }
+
+    private static Alliance opposite(final Alliance alliance) {
+        return alliance == Alliance.WHITE ? Alliance.BLACK : Alliance.WHITE;
+    }
+
+    private long calculateAttackers(final int tilePosition, final Alliance attackerAlliance, final long occupancy) {
+        final long queens = this.getPieceBitBoard(PieceType.QUEEN, attackerAlliance);
+        return (BitBoards.knightAttacks(tilePosition) & this.getPieceBitBoard(PieceType.KNIGHT, attackerAlliance)) |
+               (BitBoards.kingAttacks(tilePosition) & this.getPieceBitBoard(PieceType.KING, attackerAlliance)) |
+               (BitBoards.pawnAttacks(opposite(attackerAlliance), tilePosition) & this.getPieceBitBoard(PieceType.PAWN, attackerAlliance)) |
+               (MagicBitBoards.bishopAttacks(tilePosition, occupancy) & (this.getPieceBitBoard(PieceType.BISHOP, attackerAlliance) | queens)) |
+               (MagicBitBoards.rookAttacks(tilePosition, occupancy) & (this.getPieceBitBoard(PieceType.ROOK, attackerAlliance) | queens));
+    }
+
+    public boolean isTileAttacked(final int tilePosition, final Alliance attackerAlliance) {
+        return this.calculateAttackers(tilePosition, attackerAlliance, this.occupancy) != BitBoards.EMPTY;
+    }
+
+    private long calculatePinnedPieces(final int kingPosition, final Alliance pieceAlliance) {
+        final Alliance opponentAlliance = opposite(pieceAlliance);
+        final long opponentPieces = this.getAllianceOccupancy(opponentAlliance);
+        final long queens = this.getPieceBitBoard(PieceType.QUEEN, opponentAlliance);
+        final long snipers = (MagicBitBoards.rookAttacks(kingPosition, opponentPieces) & (this.getPieceBitBoard(PieceType.ROOK, opponentAlliance) | queens)) |
+                             (MagicBitBoards.bishopAttacks(kingPosition, opponentPieces) & (this.getPieceBitBoard(PieceType.BISHOP, opponentAlliance) | queens));
+        long pinnedPieces = BitBoards.EMPTY;
+        for (long squares = snipers; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            final long blockers = BitBoards.betweenSquares(kingPosition, BitBoards.firstSquare(squares)) & this.occupancy;
+            if (BitBoards.countSquares(blockers) == 1) {
+                pinnedPieces |= blockers & this.getAllianceOccupancy(pieceAlliance);
+            }
+        }
+        return pinnedPieces;
+    }
+
+    private boolean isLegalMove(final Move move, final Alliance opponentAlliance, final int kingPosition, final long checkers, final long pinnedPieces) {
+        final int source = move.getSourceDestination();
+        final int destination = move.getDestinationDestination();
+        if (move.isAttack() && move.getAttackingPiece().getPieceType() == PieceType.KING) {
+            return false;
+        }
+        if (source == kingPosition) {
+            return this.calculateAttackers(destination, opponentAlliance, this.occupancy & ~BitBoards.squareMask(source)) == BitBoards.EMPTY;
+        }
+        if (move.isAttack() && move.getAttackingPiece().getPiecePosition() != destination) {
+            final long capturedSquare = BitBoards.squareMask(move.getAttackingPiece().getPiecePosition());
+            final long occupancy = (this.occupancy & ~BitBoards.squareMask(source) & ~capturedSquare) | BitBoards.squareMask(destination);
+            return (this.calculateAttackers(kingPosition, opponentAlliance, occupancy) & ~capturedSquare) == BitBoards.EMPTY;
+        }
+        if (checkers != BitBoards.EMPTY &&
+            (BitBoards.countSquares(checkers) > 1 ||
+             !BitBoards.isSet(checkers | BitBoards.betweenSquares(kingPosition, BitBoards.firstSquare(checkers)), destination))) {
+            return false;
+        }
+        return !BitBoards.isSet(pinnedPieces, source) || BitBoards.isSet(BitBoards.lineSquares(kingPosition, source), destination);
+    }
+
     private List<Move> calculateLegalMoves(final Alliance pieceAlliance) {
+        final Alliance opponentAlliance = opposite(pieceAlliance);
+        final int kingPosition = BitBoards.firstSquare(this.getPieceBitBoard(PieceType.KING, pieceAlliance));
+        final long checkers = this.calculateAttackers(kingPosition, opponentAlliance, this.occupancy);
+        final long pinnedPieces = this.calculatePinnedPieces(kingPosition, pieceAlliance);
         List<Move> legalMoves = new ArrayList<>();
         List<Piece> activePieces = this.getActivePieces(pieceAlliance);
         for (final Piece piece : activePieces) {
-            legalMoves.addAll(piece.calculateLegalMoves(this));
+            for (final Move move : piece.calculateLegalMoves(this)) {
+                if (this.isLegalMove(move, opponentAlliance, kingPosition, checkers, pinnedPieces)) {
+                    legalMoves.add(move);
+                }
+            }
         }
         return Collections.unmodifiableList(legalMoves);
     }
 
+    public boolean hasLegalMove(final Alliance pieceAlliance) {
+        final List<Move> legalMoves = pieceAlliance == Alliance.WHITE ? this.whiteLegalMoves : this.blackLegalMoves;
+        if (legalMoves != null) {
+            return !legalMoves.isEmpty();
+        }
+        final Alliance opponentAlliance = opposite(pieceAlliance);
+        final int kingPosition = BitBoards.firstSquare(this.getPieceBitBoard(PieceType.KING, pieceAlliance));
+        final long checkers = this.calculateAttackers(kingPosition, opponentAlliance, this.occupancy);
+        final long pinnedPieces = this.calculatePinnedPieces(kingPosition, pieceAlliance);
+        for (final Piece piece : this.getActivePieces(pieceAlliance)) {
+            for (final Move move : piece.calculateLegalMoves(this)) {
+                if (this.isLegalMove(move, opponentAlliance, kingPosition, checkers, pinnedPieces)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public List<Move> getLegalMoves(final Alliance pieceAlliance) {
+        if (pieceAlliance == Alliance.WHITE) {
+            if (this.whiteLegalMoves == null) {
+                this.whiteLegalMoves = this.calculateLegalMoves(Alliance.WHITE);
+            }
+            return this.whiteLegalMoves;
+        }
+        if (this.blackLegalMoves == null) {
+            this.blackLegalMoves = this.calculateLegalMoves(Alliance.BLACK);
+        }
+        return this.blackLegalMoves;
+    }
+
     public Tile getTile(final int tilePosition) {
-        return this.gameBoard.get(tilePosition);
+        return this.getTiles().get(tilePosition);
     }
 
     public WhitePlayer getWhitePlayer() {
+        if (this.whitePlayer == null) {
+            this.whitePlayer = new WhitePlayer(this);
+        }
         return this.whitePlayer;
     }
 
     public BlackPlayer getBlackPlayer() {
+        if (this.blackPlayer == null) {
+            this.blackPlayer = new BlackPlayer(this);
+        }
         return this.blackPlayer;
     }
 
     public List<Piece> getWhitePieces() {
+        if (this.whitePieces == null) {
+            this.whitePieces = this.calculatePieces(this.whiteOccupancy);
+        }
         return this.whitePieces;
     }
 
     public List<Piece> getBlackPieces() {
+        if (this.blackPieces == null) {
+            this.blackPieces = this.calculatePieces(this.blackOccupancy);
+        }
         return this.blackPieces;
     }
 
     public Player getCurrentPlayer() {
-        return this.currentPlayer;
+        return this.nextMoveMaker == Alliance.WHITE ? this.getWhitePlayer() : this.getBlackPlayer();
     }
 
     public List<Move> getAllLegalMoves() {
-        return Stream.concat(this.whitePlayer.getLegalMoves().stream(), this.blackPlayer.getLegalMoves().stream()).collect(Collectors.toList());
+        return Stream.concat(this.getLegalMoves(Alliance.WHITE).stream(), this.getLegalMoves(Alliance.BLACK).stream()).collect(Collectors.toList());
     }
 
     private Board(final Builder builder) {
-        this.gameBoard = Board.createBoardTiles(builder);
-        this.whitePieces = this.calculatePieces(Alliance.WHITE);
-        this.blackPieces = this.calculatePieces(Alliance.BLACK);
+        this.boardPieces = Board.createBoardPieces(builder);
+        this.pieceBitBoards = Board.createPieceBitBoards(this.boardPieces);
+        this.whiteOccupancy = this.calculateOccupancy(Alliance.WHITE);
+        this.blackOccupancy = this.calculateOccupancy(Alliance.BLACK);
+        this.occupancy = this.whiteOccupancy | this.blackOccupancy;
+        this.whiteMaterial = this.calculateMaterial(this.whiteOccupancy);
+        this.blackMaterial = this.calculateMaterial(this.blackOccupancy);
+        this.whitePositionalScore = this.calculatePositionalScore(this.whiteOccupancy);
+        this.blackPositionalScore = this.calculatePositionalScore(this.blackOccupancy);
         this.enPassantPawn = builder.enPassantPawn;
-        final List<Move> whiteLegalMoves = this.calculateLegalMoves(Alliance.WHITE);
-        final List<Move> blackLegalMoves = this.calculateLegalMoves(Alliance.BLACK);
-        this.whitePlayer = new WhitePlayer(this, whiteLegalMoves, blackLegalMoves);
-        this.blackPlayer = new BlackPlayer(this, blackLegalMoves, whiteLegalMoves);
-        this.currentPlayer = builder.nextMoveMaker == Alliance.WHITE ? this.whitePlayer : this.blackPlayer;
+        this.nextMoveMaker = builder.nextMoveMaker;
+        this.zobristKey = Zobrist.calculateKey(this);
+        this.pawnZobristKey = Zobrist.calculatePawnKey(this);
+    }
+
+    private Board(final Board parent,
+                  final Piece movingPiece,
+                  final Piece movedPiece,
+                  final Piece capturedPiece,
+                  final Pawn enPassantPawn,
+                  final long zobristKey) {
+        final Alliance moverAlliance = movingPiece.getPieceAlliance();
+        final long sourceSquare = BitBoards.squareMask(movingPiece.getPiecePosition());
+        final long destinationSquare = BitBoards.squareMask(movedPiece.getPiecePosition());
+        final long capturedSquare = capturedPiece != null ? BitBoards.squareMask(capturedPiece.getPiecePosition()) : BitBoards.EMPTY;
+        this.boardPieces = parent.boardPieces.clone();
+        this.pieceBitBoards = parent.pieceBitBoards.clone();
+        if (capturedPiece != null) {
+            this.boardPieces[capturedPiece.getPiecePosition()] = null;
+            this.pieceBitBoards[BitBoards.pieceIndex(capturedPiece.getPieceType(), capturedPiece.getPieceAlliance())] &= ~capturedSquare;
+        }
+        this.boardPieces[movingPiece.getPiecePosition()] = null;
+        this.boardPieces[movedPiece.getPiecePosition()] = movedPiece;
+        this.pieceBitBoards[BitBoards.pieceIndex(movingPiece.getPieceType(), moverAlliance)] &= ~sourceSquare;
+        this.pieceBitBoards[BitBoards.pieceIndex(movedPiece.getPieceType(), moverAlliance)] |= destinationSquare;
+        final long moverOccupancy = (parent.getAllianceOccupancy(moverAlliance) & ~sourceSquare) | destinationSquare;
+        final long opponentOccupancy = parent.getAllianceOccupancy(opposite(moverAlliance)) & ~capturedSquare;
+        this.whiteOccupancy = moverAlliance == Alliance.WHITE ? moverOccupancy : opponentOccupancy;
+        this.blackOccupancy = moverAlliance == Alliance.WHITE ? opponentOccupancy : moverOccupancy;
+        this.occupancy = this.whiteOccupancy | this.blackOccupancy;
+        final int moverPositionalScore = parent.getPositionalScore(moverAlliance) -
+                                         PieceSquareTables.getValue(movingPiece) + PieceSquareTables.getValue(movedPiece);
+        final int opponentMaterial = parent.getMaterial(opposite(moverAlliance)) -
+                                     (capturedPiece != null ? capturedPiece.getPieceValue() : 0);
+        final int opponentPositionalScore = parent.getPositionalScore(opposite(moverAlliance)) -
+                                            (capturedPiece != null ? PieceSquareTables.getValue(capturedPiece) : 0);
+        this.whiteMaterial = moverAlliance == Alliance.WHITE ? parent.whiteMaterial : opponentMaterial;
+        this.blackMaterial = moverAlliance == Alliance.WHITE ? opponentMaterial : parent.blackMaterial;
+        this.whitePositionalScore = moverAlliance == Alliance.WHITE ? moverPositionalScore : opponentPositionalScore;
+        this.blackPositionalScore = moverAlliance == Alliance.WHITE ? opponentPositionalScore : moverPositionalScore;
+        if (capturedPiece == null) {
+            if (moverAlliance == Alliance.WHITE) {
+                this.blackPieces = parent.blackPieces;
+            } else {
+                this.whitePieces = parent.whitePieces;
+            }
+        }
+        this.enPassantPawn = enPassantPawn;
+        this.nextMoveMaker = opposite(parent.nextMoveMaker);
+        this.zobristKey = zobristKey;
+        this.pawnZobristKey = parent.pawnZobristKey ^ Zobrist.pawnKey(movingPiece) ^ Zobrist.pawnKey(movedPiece) ^
+                              (capturedPiece != null ? Zobrist.pawnKey(capturedPiece) : 0L);
+        assert this.zobristKey == Zobrist.calculateKey(this) : "Incremental Zobrist key diverged from a full recomputation!";
+        assert this.pawnZobristKey == Zobrist.calculatePawnKey(this) : "Incremental pawn Zobrist key diverged from a full recomputation!";
+        assert this.hasConsistentScores() : "Incremental material or piece-square scores diverged from a full recomputation!";
+    }
+
+    public Board derive(final Piece movingPiece,
+                        final Piece movedPiece,
+                        final Piece capturedPiece,
+                        final Pawn enPassantPawn,
+                        final long zobristKey) {
+        return new Board(this, movingPiece, movedPiece, capturedPiece, enPassantPawn, zobristKey);
+    }
+
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    public long getPawnZobristKey() {
+        return this.pawnZobristKey;
     }
 
     public Pawn getEnPassantPawn() {
@@ -106,39 +369,39 @@ public final class Board {
     public static Board createStandardBoard() {
         Builder builder = new Builder();
         //Set black pieces
-        builder.setPiece(0, new Rook(0, Alliance.BLACK));
-        builder.setPiece(1, new Knight(1, Alliance.BLACK));
-        builder.setPiece(2, new Bishop(2, Alliance.BLACK));
-        builder.setPiece(3, new Queen(3, Alliance.BLACK));
-        builder.setPiece(4, new King(4, Alliance.BLACK, true));
-        builder.setPiece(5, new Bishop(5, Alliance.BLACK));
-        builder.setPiece(6, new Knight(6, Alliance.BLACK));
-        builder.setPiece(7, new Rook(7, Alliance.BLACK));
-        builder.setPiece(8, new Pawn(8, Alliance.BLACK, true));
-        builder.setPiece(9, new Pawn(9, Alliance.BLACK, true));
-        builder.setPiece(10, new Pawn(10, Alliance.BLACK, true));
-        builder.setPiece(11, new Pawn(11, Alliance.BLACK, true));
-        builder.setPiece(12, new Pawn(12, Alliance.BLACK, true));
-        builder.setPiece(13, new Pawn(13, Alliance.BLACK, true));
-        builder.setPiece(14, new Pawn(14, Alliance.BLACK, true));
-        builder.setPiece(15, new Pawn(15, Alliance.BLACK, true));
+        builder.setPiece(0, Piece.createPiece(PieceType.ROOK, 0, Alliance.BLACK));
+        builder.setPiece(1, Piece.createPiece(PieceType.KNIGHT, 1, Alliance.BLACK));
+        builder.setPiece(2, Piece.createPiece(PieceType.BISHOP, 2, Alliance.BLACK));
+        builder.setPiece(3, Piece.createPiece(PieceType.QUEEN, 3, Alliance.BLACK));
+        builder.setPiece(4, Piece.createPiece(PieceType.KING, 4, Alliance.BLACK, true));
+        builder.setPiece(5, Piece.createPiece(PieceType.BISHOP, 5, Alliance.BLACK));
+        builder.setPiece(6, Piece.createPiece(PieceType.KNIGHT, 6, Alliance.BLACK));
+        builder.setPiece(7, Piece.createPiece(PieceType.ROOK, 7, Alliance.BLACK));
+        builder.setPiece(8, Piece.createPiece(PieceType.PAWN, 8, Alliance.BLACK, true));
+        builder.setPiece(9, Piece.createPiece(PieceType.PAWN, 9, Alliance.BLACK, true));
+        builder.setPiece(10, Piece.createPiece(PieceType.PAWN, 10, Alliance.BLACK, true));
+        builder.setPiece(11, Piece.createPiece(PieceType.PAWN, 11, Alliance.BLACK, true));
+        builder.setPiece(12, Piece.createPiece(PieceType.PAWN, 12, Alliance.BLACK, true));
+        builder.setPiece(13, Piece.createPiece(PieceType.PAWN, 13, Alliance.BLACK, true));
+        builder.setPiece(14, Piece.createPiece(PieceType.PAWN, 14, Alliance.BLACK, true));
+        builder.setPiece(15, Piece.createPiece(PieceType.PAWN, 15, Alliance.BLACK, true));
         //Set white pieces
-        builder.setPiece(48, new Pawn(48, Alliance.WHITE, true));
-        builder.setPiece(49, new Pawn(49, Alliance.WHITE, true));
-        builder.setPiece(50, new Pawn(50, Alliance.WHITE, true));
-        builder.setPiece(51, new Pawn(51, Alliance.WHITE, true));
-        builder.setPiece(52, new Pawn(52, Alliance.WHITE, true));
-        builder.setPiece(53, new Pawn(53, Alliance.WHITE, true));
-        builder.setPiece(54, new Pawn(54, Alliance.WHITE, true));
-        builder.setPiece(55, new Pawn(55, Alliance.WHITE, true));
-        builder.setPiece(56, new Rook(56, Alliance.WHITE));
-        builder.setPiece(57, new Knight(57, Alliance.WHITE));
-        builder.setPiece(58, new Bishop(58, Alliance.WHITE));
-        builder.setPiece(59, new Queen(59, Alliance.WHITE));
-        builder.setPiece(60, new King(60, Alliance.WHITE, true));
-        builder.setPiece(61, new Bishop(61, Alliance.WHITE));
-        builder.setPiece(62, new Knight(62, Alliance.WHITE));
-        builder.setPiece(63, new Rook(63, Alliance.WHITE));
+        builder.setPiece(48, Piece.createPiece(PieceType.PAWN, 48, Alliance.WHITE, true));
+        builder.setPiece(49, Piece.createPiece(PieceType.PAWN, 49, Alliance.WHITE, true));
+        builder.setPiece(50, Piece.createPiece(PieceType.PAWN, 50, Alliance.WHITE, true));
+        builder.setPiece(51, Piece.createPiece(PieceType.PAWN, 51, Alliance.WHITE, true));
+        builder.setPiece(52, Piece.createPiece(PieceType.PAWN, 52, Alliance.WHITE, true));
+        builder.setPiece(53, Piece.createPiece(PieceType.PAWN, 53, Alliance.WHITE, true));
+        builder.setPiece(54, Piece.createPiece(PieceType.PAWN, 54, Alliance.WHITE, true));
+        builder.setPiece(55, Piece.createPiece(PieceType.PAWN, 55, Alliance.WHITE, true));
+        builder.setPiece(56, Piece.createPiece(PieceType.ROOK, 56, Alliance.WHITE));
+        builder.setPiece(57, Piece.createPiece(PieceType.KNIGHT, 57, Alliance.WHITE));
+        builder.setPiece(58, Piece.createPiece(PieceType.BISHOP, 58, Alliance.WHITE));
+        builder.setPiece(59, Piece.createPiece(PieceType.QUEEN, 59, Alliance.WHITE));
+        builder.setPiece(60, Piece.createPiece(PieceType.KING, 60, Alliance.WHITE, true));
+        builder.setPiece(61, Piece.createPiece(PieceType.BISHOP, 61, Alliance.WHITE));
+        builder.setPiece(62, Piece.createPiece(PieceType.KNIGHT, 62, Alliance.WHITE));
+        builder.setPiece(63, Piece.createPiece(PieceType.ROOK, 63, Alliance.WHITE));
         builder.setNextMoveMaker(Alliance.WHITE);
         return builder.build();
     }
@@ -146,10 +409,10 @@ public final class Board {
     @Override
     public String toString() {
         StringBuilder boardString = new StringBuilder();
-        for (int i = 1; i <= BoardUtils.BOARD_ROWS; i++) {
-            for (int j = 1; j <= BoardUtils.BOARD_COLUMNS; j++) {
-                boardString.append(this.getTile(BoardUtils.getPieceCoordinate(new Pair<>(i, j))).toString());
-                if (j == BoardUtils.BOARD_COLUMNS) {
+        for (int i = 0; i < BoardUtils.BOARD_ROWS; i++) {
+            for (int j = 0; j < BoardUtils.BOARD_COLUMNS; j++) {
+                boardString.append(this.getTile(BoardUtils.getCoordinate(i, j)).toString());
+                if (j == BoardUtils.BOARD_COLUMNS - 1) {
                     boardString.append('\n');
                 } else {
                     boardString.append(' ');
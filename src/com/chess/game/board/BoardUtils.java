@@ -1,40 +1,104 @@
 package com.chess.game.board;
 
-import javafx.util.Pair;
+import com.chess.game.Alliance;
 
 public final class BoardUtils {
     public static final int BOARD_ROWS = 8;
     public static final int BOARD_COLUMNS = 8;
     public static final int NUMBER_OF_BOARD_TILES = 64;
+    public static final int NO_TILE = -1;
+
+    private static final int[][] PAWN_PUSHES = new int[Alliance.values().length][];
+    private static final int[][] PAWN_JUMPS = new int[Alliance.values().length][];
+    private static final int[][][] PAWN_CAPTURES = new int[Alliance.values().length][][];
+
+    static {
+        for (final Alliance alliance : Alliance.values()) {
+            final int direction = alliance.getDirection();
+            PAWN_PUSHES[alliance.ordinal()] = createPushes(direction);
+            PAWN_JUMPS[alliance.ordinal()] = createPushes(2 * direction);
+            PAWN_CAPTURES[alliance.ordinal()] = createTargets(new int[] {direction, direction}, new int[] {direction, -direction});
+        }
+    }
 
     private BoardUtils() {
         throw new RuntimeException("You can create me!");
     }
 
-    public static Pair<Integer, Integer> getPieceRowAndColumnCoordinates(int pieceCoordinate) {
-        pieceCoordinate++;
-        int pieceRow = pieceCoordinate / BoardUtils.BOARD_COLUMNS;
-        int pieceColumn = pieceCoordinate % BoardUtils.BOARD_COLUMNS;
-        if (pieceColumn == 0) {
-            pieceColumn = BoardUtils.BOARD_COLUMNS;
-        } else {
-            pieceRow++;
+    private static int[][] createTargets(final int[] rowOffsets, final int[] columnOffsets) {
+        final int[][] targets = new int[NUMBER_OF_BOARD_TILES][];
+        final int[] buffer = new int[rowOffsets.length];
+        for (int i = 0; i < NUMBER_OF_BOARD_TILES; i++) {
+            int targetCount = 0;
+            for (int j = 0; j < rowOffsets.length; j++) {
+                final int rowCandidate = getRow(i) + rowOffsets[j];
+                final int columnCandidate = getColumn(i) + columnOffsets[j];
+                if (isValidTile(rowCandidate, columnCandidate)) {
+                    buffer[targetCount++] = getCoordinate(rowCandidate, columnCandidate);
+                }
+            }
+            targets[i] = new int[targetCount];
+            System.arraycopy(buffer, 0, targets[i], 0, targetCount);
+        }
+        return targets;
+    }
+
+    private static int[] createPushes(final int rowOffset) {
+        final int[] pushes = new int[NUMBER_OF_BOARD_TILES];
+        for (int i = 0; i < NUMBER_OF_BOARD_TILES; i++) {
+            final int rowCandidate = getRow(i) + rowOffset;
+            pushes[i] = isValidTile(rowCandidate, getColumn(i)) ? getCoordinate(rowCandidate, getColumn(i)) : NO_TILE;
         }
-        return new Pair<Integer, Integer>(pieceRow, pieceColumn);
+        return pushes;
+    }
+
+    public static int getRow(final int pieceCoordinate) {
+        return pieceCoordinate / BOARD_COLUMNS;
     }
 
-    public static int getPieceCoordinate(final Pair<Integer, Integer> pieceRowAndColumnCoordinate) {
-        return (pieceRowAndColumnCoordinate.getKey() - 1) * BoardUtils.BOARD_COLUMNS + pieceRowAndColumnCoordinate.getValue() - 1;
+    public static int getColumn(final int pieceCoordinate) {
+        return pieceCoordinate % BOARD_COLUMNS;
     }
 
-    public static boolean isValidTile(final Pair<Integer, Integer> pieceRowAndColumnCoordinate) {
-        return pieceRowAndColumnCoordinate.getKey() >= 1 &&
-                pieceRowAndColumnCoordinate.getKey() <= BOARD_ROWS &&
-                pieceRowAndColumnCoordinate.getValue() >= 1 &&
-                pieceRowAndColumnCoordinate.getValue() <= BOARD_COLUMNS;
+    public static int getCoordinate(final int row, final int column) {
+        return row * BOARD_COLUMNS + column;
+    }
+
+    public static boolean isValidTile(final int row, final int column) {
+        return row >= 0 && row < BOARD_ROWS && column >= 0 && column < BOARD_COLUMNS;
     }
 
     public static boolean isValidTile(final int pieceCoordinate) {
         return pieceCoordinate >= 0 && pieceCoordinate <= 63;
     }
+
+    public static int getPawnPush(final Alliance pawnAlliance, final int pieceCoordinate) {
+        return PAWN_PUSHES[pawnAlliance.ordinal()][pieceCoordinate];
+    }
+
+    public static int getPawnJump(final Alliance pawnAlliance, final int pieceCoordinate) {
+        return PAWN_JUMPS[pawnAlliance.ordinal()][pieceCoordinate];
+    }
+
+    public static int[] getPawnCaptures(final Alliance pawnAlliance, final int pieceCoordinate) {
+        return PAWN_CAPTURES[pawnAlliance.ordinal()][pieceCoordinate];
+    }
+
+    public static String getPositionAtCoordinate(final int pieceCoordinate) {
+        final char column = (char)('a' + pieceCoordinate % BoardUtils.BOARD_COLUMNS);
+        final char row = (char)('0' + BoardUtils.BOARD_ROWS - pieceCoordinate / BoardUtils.BOARD_COLUMNS);
+        return new String(new char[] {column, row});
+    }
+
+    public static int getCoordinateAtPosition(final String position) {
+        if (position.length() != 2) {
+            throw new RuntimeException("Invalid position " + position + "!");
+        }
+        final int column = position.charAt(0) - 'a';
+        final int row = BoardUtils.BOARD_ROWS - (position.charAt(1) - '0');
+        if (column < 0 || column >= BoardUtils.BOARD_COLUMNS || row < 0 || row >= BoardUtils.BOARD_ROWS) {
+            throw new RuntimeException("Invalid position " + position + "!");
+        }
+        return row * BoardUtils.BOARD_COLUMNS + column;
+    }
 }
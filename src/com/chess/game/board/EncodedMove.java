@@ -0,0 +1,62 @@
+package com.chess.game.board;
+
+public final class EncodedMove {
+    public static final int NONE = -1;
+    public static final int NORMAL = 0;
+    public static final int ATTACK = 1;
+    public static final int PAWN_JUMP = 2;
+    public static final int EN_PASSANT = 3;
+
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int TYPE_MASK = 0x3;
+    private static final int PIECE_MASK = 0xF;
+    private static final int NO_PIECE = PIECE_MASK;
+    private static final int KEY_MASK = 0xFFFF;
+    private static final int DESTINATION_SHIFT = SQUARE_BITS;
+    private static final int TYPE_SHIFT = 2 * SQUARE_BITS;
+    private static final int MOVED_PIECE_SHIFT = TYPE_SHIFT + 2;
+    private static final int CAPTURED_PIECE_SHIFT = MOVED_PIECE_SHIFT + 4;
+
+    private EncodedMove() {
+        throw new RuntimeException("You can not create me!");
+    }
+
+    public static int create(final int source, final int destination, final int type, final int movedPiece, final int capturedPiece) {
+        return source |
+               destination << DESTINATION_SHIFT |
+               type << TYPE_SHIFT |
+               movedPiece << MOVED_PIECE_SHIFT |
+               (capturedPiece == MutableBoard.NO_PIECE ? NO_PIECE : capturedPiece) << CAPTURED_PIECE_SHIFT;
+    }
+
+    public static int getSource(final int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int getDestination(final int move) {
+        return (move >>> DESTINATION_SHIFT) & SQUARE_MASK;
+    }
+
+    public static int getType(final int move) {
+        return (move >>> TYPE_SHIFT) & TYPE_MASK;
+    }
+
+    public static int getMovedPiece(final int move) {
+        return (move >>> MOVED_PIECE_SHIFT) & PIECE_MASK;
+    }
+
+    public static int getCapturedPiece(final int move) {
+        final int capturedPiece = (move >>> CAPTURED_PIECE_SHIFT) & PIECE_MASK;
+        return capturedPiece == NO_PIECE ? MutableBoard.NO_PIECE : capturedPiece;
+    }
+
+    public static int getKey(final int move) {
+        return move == NONE ? NONE : move & KEY_MASK;
+    }
+
+    public static boolean isAttack(final int move) {
+        final int type = getType(move);
+        return type == ATTACK || type == EN_PASSANT;
+    }
+}
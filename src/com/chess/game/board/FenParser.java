@@ -0,0 +1,72 @@
+package com.chess.game.board;
+
+import com.chess.game.Alliance;
+import com.chess.game.pieces.Pawn;
+import com.chess.game.pieces.Piece;
+import com.chess.game.pieces.PieceType;
+
+public final class FenParser {
+    private static final String PIECE_LETTERS = "bknpqr";
+    private static final String NO_SQUARE = "-";
+    private static final int WHITE_PAWN_ROW = 6;
+    private static final int BLACK_PAWN_ROW = 1;
+
+    private FenParser() {
+        throw new RuntimeException("You can not create me!");
+    }
+
+    public static Board createBoard(final String fen) {
+        final String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 4) {
+            throw new RuntimeException("Invalid FEN " + fen + "!");
+        }
+        final Board.Builder builder = new Board.Builder();
+        final String castlingRights = fields[2];
+        int tilePosition = 0;
+        for (final char symbol : fields[0].toCharArray()) {
+            if (symbol == '/') {
+                continue;
+            }
+            if (Character.isDigit(symbol)) {
+                tilePosition += symbol - '0';
+                continue;
+            }
+            if (!BoardUtils.isValidTile(tilePosition)) {
+                throw new RuntimeException("Invalid FEN " + fen + "!");
+            }
+            builder.setPiece(tilePosition, createPiece(symbol, tilePosition, castlingRights));
+            tilePosition++;
+        }
+        if (tilePosition != BoardUtils.NUMBER_OF_BOARD_TILES) {
+            throw new RuntimeException("Invalid FEN " + fen + "!");
+        }
+        final Alliance nextMoveMaker = fields[1].equals("b") ? Alliance.BLACK : Alliance.WHITE;
+        builder.setNextMoveMaker(nextMoveMaker);
+        if (!fields[3].equals(NO_SQUARE)) {
+            final int enPassantPosition = BoardUtils.getCoordinateAtPosition(fields[3]) - nextMoveMaker.getDirection() * BoardUtils.BOARD_COLUMNS;
+            final Piece enPassantPawn = builder.getPiece(enPassantPosition);
+            if (enPassantPawn != null && enPassantPawn.getPieceType() == PieceType.PAWN && enPassantPawn.getPieceAlliance() != nextMoveMaker) {
+                builder.setEnPassantPawn((Pawn)enPassantPawn);
+            }
+        }
+        return builder.build();
+    }
+
+    private static Piece createPiece(final char symbol, final int tilePosition, final String castlingRights) {
+        final int pieceIndex = PIECE_LETTERS.indexOf(Character.toLowerCase(symbol));
+        if (pieceIndex < 0) {
+            throw new RuntimeException("Invalid piece " + symbol + "!");
+        }
+        final Alliance pieceAlliance = Character.isUpperCase(symbol) ? Alliance.WHITE : Alliance.BLACK;
+        final PieceType pieceType = PieceType.values()[pieceIndex];
+        final int row = tilePosition / BoardUtils.BOARD_COLUMNS;
+        if (pieceType == PieceType.PAWN) {
+            return Piece.createPiece(pieceType, tilePosition, pieceAlliance, row == (pieceAlliance == Alliance.WHITE ? WHITE_PAWN_ROW : BLACK_PAWN_ROW));
+        }
+        if (pieceType == PieceType.KING) {
+            final String kingRights = pieceAlliance == Alliance.WHITE ? "KQ" : "kq";
+            return Piece.createPiece(pieceType, tilePosition, pieceAlliance, castlingRights.indexOf(kingRights.charAt(0)) >= 0 || castlingRights.indexOf(kingRights.charAt(1)) >= 0);
+        }
+        return Piece.createPiece(pieceType, tilePosition, pieceAlliance);
+    }
+}
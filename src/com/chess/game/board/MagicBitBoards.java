@@ -0,0 +1,151 @@
+package com.chess.game.board;
+
+public final class MagicBitBoards {
+    private static final int[] ROOK_ROW_OFFSETS = {0, 0, -1, 1};
+    private static final int[] ROOK_COLUMN_OFFSETS = {-1, 1, 0, 0};
+    private static final int[] BISHOP_ROW_OFFSETS = {-1, -1, 1, 1};
+    private static final int[] BISHOP_COLUMN_OFFSETS = {-1, 1, -1, 1};
+
+    //Found offline by random search over sparse candidates, initSquare rejects any magic that collides
+    private static final long[] ROOK_MAGICS = {
+            0x0080068051E04000L, 0x0040001000402000L, 0x0080100020008008L, 0x4E000A0010208440L,
+            0x4200040802002010L, 0x0100010008020400L, 0x9080608019000600L, 0x8100020080204100L,
+            0x4103800480400020L, 0x8015004004802100L, 0x000200108A002040L, 0x0801000821001000L,
+            0x0015000500080070L, 0x0120800400800200L, 0x0109000432001100L, 0x020080055B000080L,
+            0x0080004000402002L, 0x5260848020004008L, 0x2402020014402080L, 0x3000808010000802L,
+            0x0304018004810800L, 0x0000808004000200L, 0x0002040001500248L, 0x0012020000408401L,
+            0x8440008080004020L, 0x0804200840100040L, 0x0820008080201000L, 0x2080100100082100L,
+            0x0800080180240080L, 0x00A1000900028400L, 0x0100100400C80102L, 0x000001120000A044L,
+            0x800080C004800620L, 0x4040081000202000L, 0x0D08802008801000L, 0x1000800800801004L,
+            0x0000800400800803L, 0x000A000400800280L, 0x0400101104003882L, 0x1222040082002041L,
+            0x6041C00081A48000L, 0x8020802201060040L, 0x4000200100410018L, 0x0010000904110020L,
+            0x8000040008008080L, 0x0A00201004080140L, 0x0000040200010100L, 0x0220007081020004L,
+            0x840205C981002A00L, 0x00802100804A0600L, 0x0002081040802200L, 0x0240230010000900L,
+            0x0044800800240180L, 0x4011000400080300L, 0x00101011088A0C00L, 0x1003000080420100L,
+            0x0180102100408001L, 0x1100108040010021L, 0x0182004008108022L, 0x0122900128202501L,
+            0x0002012004100802L, 0x00C200834C081002L, 0x0440020110083084L, 0x4000484884010022L
+    };
+
+    private static final long[] BISHOP_MAGICS = {
+            0x10601C0480810A01L, 0x4802020801050809L, 0x3010040053448000L, 0x900404208A000208L,
+            0x0201104021040002L, 0x5048410820000020L, 0x1004044208041100L, 0x00801308180C0400L,
+            0x0010502109010A00L, 0x0004108200840082L, 0x1020118802004020L, 0x008004440180C000L,
+            0x00000A1210000000L, 0x0000091008040248L, 0x1402440104100440L, 0x0804244042101088L,
+            0x0008400490040860L, 0x4002200410240902L, 0x010A10010A040101L, 0x000422080200A400L,
+            0x240300C490400000L, 0x0002000101008298L, 0x0012016100826110L, 0x8002280602110410L,
+            0x5802080040508400L, 0x0090080042022400L, 0x0220240042080200L, 0x000108000C004010L,
+            0x1810101001004008L, 0x0421040842100400L, 0x240080A009041040L, 0x0009010000208800L,
+            0x0084210882041000L, 0xC011100214104440L, 0x1000840100500043L, 0x0002020080880082L,
+            0x84110802200A0200L, 0x200C880080051010L, 0x0008084040550901L, 0x0802040500102080L,
+            0x0C05041140485440L, 0x0044010802240810L, 0x0402001044080800L, 0x0040002124020808L,
+            0x540002020C000200L, 0x00A004208E000020L, 0x0409100100404208L, 0x0004010A14280201L,
+            0x020088010920004AL, 0x8000808088204406L, 0x200200C2C4502800L, 0x0040002084110004L,
+            0x0000424015044218L, 0x0001404901010080L, 0x0A20020441040000L, 0x2004010801010500L,
+            0x2050840108410401L, 0x0023409048021008L, 0x18000200540C0404L, 0x000400002020881AL,
+            0x0400008004904400L, 0x8000820910010200L, 0x0048D00410243047L, 0x4940822809002182L
+    };
+
+    private static final long[] ROOK_MASKS = new long[BoardUtils.NUMBER_OF_BOARD_TILES];
+    private static final int[] ROOK_SHIFTS = new int[BoardUtils.NUMBER_OF_BOARD_TILES];
+    private static final long[][] ROOK_ATTACKS = new long[BoardUtils.NUMBER_OF_BOARD_TILES][];
+    private static final long[] BISHOP_MASKS = new long[BoardUtils.NUMBER_OF_BOARD_TILES];
+    private static final int[] BISHOP_SHIFTS = new int[BoardUtils.NUMBER_OF_BOARD_TILES];
+    private static final long[][] BISHOP_ATTACKS = new long[BoardUtils.NUMBER_OF_BOARD_TILES][];
+
+    static {
+        for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+            initSquare(i, ROOK_ROW_OFFSETS, ROOK_COLUMN_OFFSETS, ROOK_MAGICS[i], ROOK_MASKS, ROOK_SHIFTS, ROOK_ATTACKS);
+            initSquare(i, BISHOP_ROW_OFFSETS, BISHOP_COLUMN_OFFSETS, BISHOP_MAGICS[i], BISHOP_MASKS, BISHOP_SHIFTS, BISHOP_ATTACKS);
+        }
+    }
+
+    private MagicBitBoards() {
+        throw new RuntimeException("You can not create me!");
+    }
+
+    public static long rookAttacks(final int tileCoordinate, final long occupancy) {
+        return ROOK_ATTACKS[tileCoordinate][(int)(((occupancy & ROOK_MASKS[tileCoordinate]) * ROOK_MAGICS[tileCoordinate]) >>> ROOK_SHIFTS[tileCoordinate])];
+    }
+
+    public static long bishopAttacks(final int tileCoordinate, final long occupancy) {
+        return BISHOP_ATTACKS[tileCoordinate][(int)(((occupancy & BISHOP_MASKS[tileCoordinate]) * BISHOP_MAGICS[tileCoordinate]) >>> BISHOP_SHIFTS[tileCoordinate])];
+    }
+
+    public static long queenAttacks(final int tileCoordinate, final long occupancy) {
+        return rookAttacks(tileCoordinate, occupancy) | bishopAttacks(tileCoordinate, occupancy);
+    }
+
+    static long rookAttacksByRayWalk(final int tileCoordinate, final long occupancy) {
+        return walkRays(tileCoordinate, occupancy, ROOK_ROW_OFFSETS, ROOK_COLUMN_OFFSETS, false);
+    }
+
+    static long bishopAttacksByRayWalk(final int tileCoordinate, final long occupancy) {
+        return walkRays(tileCoordinate, occupancy, BISHOP_ROW_OFFSETS, BISHOP_COLUMN_OFFSETS, false);
+    }
+
+    static long getRookMask(final int tileCoordinate) {
+        return ROOK_MASKS[tileCoordinate];
+    }
+
+    static long getBishopMask(final int tileCoordinate) {
+        return BISHOP_MASKS[tileCoordinate];
+    }
+
+    private static long walkRays(final int tileCoordinate,
+                                 final long occupancy,
+                                 final int[] rowOffsets,
+                                 final int[] columnOffsets,
+                                 final boolean relevantOnly) {
+        final int row = tileCoordinate / BoardUtils.BOARD_COLUMNS;
+        final int column = tileCoordinate % BoardUtils.BOARD_COLUMNS;
+        long attacks = BitBoards.EMPTY;
+        for (int i = 0; i < rowOffsets.length; i++) {
+            int rowCandidate = row + rowOffsets[i];
+            int columnCandidate = column + columnOffsets[i];
+            while (isOnBoard(rowCandidate, columnCandidate)) {
+                if (relevantOnly && !isOnBoard(rowCandidate + rowOffsets[i], columnCandidate + columnOffsets[i])) {
+                    break;
+                }
+                final long square = BitBoards.squareMask(rowCandidate * BoardUtils.BOARD_COLUMNS + columnCandidate);
+                attacks |= square;
+                if ((occupancy & square) != 0) {
+                    break;
+                }
+                rowCandidate += rowOffsets[i];
+                columnCandidate += columnOffsets[i];
+            }
+        }
+        return attacks;
+    }
+
+    private static boolean isOnBoard(final int row, final int column) {
+        return row >= 0 && row < BoardUtils.BOARD_ROWS && column >= 0 && column < BoardUtils.BOARD_COLUMNS;
+    }
+
+    private static void initSquare(final int tileCoordinate,
+                                   final int[] rowOffsets,
+                                   final int[] columnOffsets,
+                                   final long magic,
+                                   final long[] masks,
+                                   final int[] shifts,
+                                   final long[][] attacks) {
+        final long mask = walkRays(tileCoordinate, BitBoards.EMPTY, rowOffsets, columnOffsets, true);
+        final int shift = Long.SIZE - BitBoards.countSquares(mask);
+        final long[] table = new long[1 << BitBoards.countSquares(mask)];
+        final boolean[] isFilled = new boolean[table.length];
+        long subset = BitBoards.EMPTY;
+        do {
+            final int index = (int)((subset * magic) >>> shift);
+            final long subsetAttacks = walkRays(tileCoordinate, subset, rowOffsets, columnOffsets, false);
+            if (isFilled[index] && table[index] != subsetAttacks) {
+                throw new RuntimeException("Invalid magic number for tile " + tileCoordinate + "!");
+            }
+            table[index] = subsetAttacks;
+            isFilled[index] = true;
+            subset = (subset - mask) & mask;
+        } while (subset != BitBoards.EMPTY);
+        masks[tileCoordinate] = mask;
+        shifts[tileCoordinate] = shift;
+        attacks[tileCoordinate] = table;
+    }
+}
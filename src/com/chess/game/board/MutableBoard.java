@@ -0,0 +1,476 @@
+package com.chess.game.board;
+
+import com.chess.game.Alliance;
+import com.chess.game.pieces.Pawn;
+import com.chess.game.pieces.Piece;
+import com.chess.game.pieces.PieceType;
+
+public final class MutableBoard {
+    public static final int MAX_MOVES = 256;
+    public static final int MAX_PLY = 128;
+    public static final int NO_PIECE = -1;
+    public static final int NO_SQUARE = -1;
+
+    private static final Alliance[] ALLIANCES = Alliance.values();
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    private static final int[] PIECE_VALUES = createPieceValues();
+
+    private final int[] pieceCodes;
+    private final long[] pieceBitBoards;
+    private final long[] allianceOccupancy;
+    private final int[] material;
+    private final int[] positionalScore;
+    private long occupancy;
+    private long flaggedPieces;
+    private int enPassantSquare;
+    private Alliance sideToMove;
+    private long zobristKey;
+    private long pawnZobristKey;
+
+    private final int[] undoMoves;
+    private final int[] undoCapturedPieces;
+    private final int[] undoCaptureSquares;
+    private final int[] undoEnPassantSquares;
+    private final long[] undoFlaggedPieces;
+    private final long[] undoZobristKeys;
+    private final long[] undoPawnZobristKeys;
+    private final int[] scratchMoves;
+    private int ply;
+
+    private static int[] createPieceValues() {
+        final int[] pieceValues = new int[PIECE_TYPES.length];
+        for (final PieceType pieceType : PIECE_TYPES) {
+            pieceValues[pieceType.ordinal()] = Piece.createPiece(pieceType, 0, Alliance.WHITE).getPieceValue();
+        }
+        return pieceValues;
+    }
+
+    public MutableBoard(final Board board) {
+        this.pieceCodes = new int[BoardUtils.NUMBER_OF_BOARD_TILES];
+        this.pieceBitBoards = new long[BitBoards.NUMBER_OF_PIECE_BIT_BOARDS];
+        this.allianceOccupancy = new long[ALLIANCES.length];
+        this.material = new int[ALLIANCES.length];
+        this.positionalScore = new int[ALLIANCES.length];
+        this.undoMoves = new int[MAX_PLY];
+        this.undoCapturedPieces = new int[MAX_PLY];
+        this.undoCaptureSquares = new int[MAX_PLY];
+        this.undoEnPassantSquares = new int[MAX_PLY];
+        this.undoFlaggedPieces = new long[MAX_PLY];
+        this.undoZobristKeys = new long[MAX_PLY];
+        this.undoPawnZobristKeys = new long[MAX_PLY];
+        this.scratchMoves = new int[MAX_MOVES];
+        for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+            final Piece piece = board.getPiece(i);
+            this.pieceCodes[i] = NO_PIECE;
+            if (piece != null) {
+                this.putPiece(i, BitBoards.pieceIndex(piece.getPieceType(), piece.getPieceAlliance()));
+                if (piece.isFlagged()) {
+                    this.flaggedPieces |= BitBoards.squareMask(i);
+                }
+            }
+        }
+        this.enPassantSquare = board.getEnPassantPawn() != null ? board.getEnPassantPawn().getPiecePosition() : NO_SQUARE;
+        this.sideToMove = board.getCurrentPlayer().getAlliance();
+        this.zobristKey = board.getZobristKey();
+        this.pawnZobristKey = board.getPawnZobristKey();
+        this.ply = 0;
+    }
+
+    private static Alliance opposite(final Alliance alliance) {
+        return ALLIANCES[1 - alliance.ordinal()];
+    }
+
+    public static PieceType getPieceType(final int pieceCode) {
+        return PIECE_TYPES[pieceCode % BitBoards.NUMBER_OF_PIECE_TYPES];
+    }
+
+    public static Alliance getPieceAlliance(final int pieceCode) {
+        return ALLIANCES[pieceCode / BitBoards.NUMBER_OF_PIECE_TYPES];
+    }
+
+    public static int getPieceValue(final int pieceCode) {
+        return PIECE_VALUES[pieceCode % BitBoards.NUMBER_OF_PIECE_TYPES];
+    }
+
+    public Alliance getSideToMove() {
+        return this.sideToMove;
+    }
+
+    public int getPieceCode(final int tilePosition) {
+        return this.pieceCodes[tilePosition];
+    }
+
+    public long getPieceBitBoard(final PieceType pieceType, final Alliance pieceAlliance) {
+        return this.pieceBitBoards[BitBoards.pieceIndex(pieceType, pieceAlliance)];
+    }
+
+    public long getAllianceOccupancy(final Alliance pieceAlliance) {
+        return this.allianceOccupancy[pieceAlliance.ordinal()];
+    }
+
+    public long getOccupancy() {
+        return this.occupancy;
+    }
+
+    public int getEnPassantSquare() {
+        return this.enPassantSquare;
+    }
+
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    public long getPawnZobristKey() {
+        return this.pawnZobristKey;
+    }
+
+    public int getPly() {
+        return this.ply;
+    }
+
+    public boolean isCastled(final Alliance alliance) {
+        return (this.flaggedPieces & this.getPieceBitBoard(PieceType.KING, alliance)) != 0;
+    }
+
+    public int getMaterial(final Alliance alliance) {
+        return this.material[alliance.ordinal()];
+    }
+
+    public int getPositionalScore(final Alliance alliance) {
+        return this.positionalScore[alliance.ordinal()];
+    }
+
+    private int calculateMaterial(final Alliance alliance) {
+        int material = 0;
+        for (final PieceType pieceType : PIECE_TYPES) {
+            material += BitBoards.countSquares(this.getPieceBitBoard(pieceType, alliance)) * PIECE_VALUES[pieceType.ordinal()];
+        }
+        return material;
+    }
+
+    private int calculatePositionalScore(final Alliance alliance) {
+        int positionalScore = 0;
+        for (long squares = this.allianceOccupancy[alliance.ordinal()]; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            final int tilePosition = BitBoards.firstSquare(squares);
+            positionalScore += PieceSquareTables.getValue(this.pieceCodes[tilePosition], tilePosition);
+        }
+        return positionalScore;
+    }
+
+    private boolean hasConsistentScores() {
+        for (final Alliance alliance : ALLIANCES) {
+            if (this.getMaterial(alliance) != this.calculateMaterial(alliance) ||
+                this.getPositionalScore(alliance) != this.calculatePositionalScore(alliance)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long calculateAttackers(final int tilePosition, final Alliance attackerAlliance, final long occupancy) {
+        final long queens = this.getPieceBitBoard(PieceType.QUEEN, attackerAlliance);
+        return (BitBoards.knightAttacks(tilePosition) & this.getPieceBitBoard(PieceType.KNIGHT, attackerAlliance)) |
+               (BitBoards.kingAttacks(tilePosition) & this.getPieceBitBoard(PieceType.KING, attackerAlliance)) |
+               (BitBoards.pawnAttacks(opposite(attackerAlliance), tilePosition) & this.getPieceBitBoard(PieceType.PAWN, attackerAlliance)) |
+               (MagicBitBoards.bishopAttacks(tilePosition, occupancy) & (this.getPieceBitBoard(PieceType.BISHOP, attackerAlliance) | queens)) |
+               (MagicBitBoards.rookAttacks(tilePosition, occupancy) & (this.getPieceBitBoard(PieceType.ROOK, attackerAlliance) | queens));
+    }
+
+    private long calculatePinnedPieces(final int kingPosition, final Alliance alliance) {
+        final Alliance opponentAlliance = opposite(alliance);
+        final long opponentPieces = this.getAllianceOccupancy(opponentAlliance);
+        final long queens = this.getPieceBitBoard(PieceType.QUEEN, opponentAlliance);
+        final long snipers = (MagicBitBoards.rookAttacks(kingPosition, opponentPieces) & (this.getPieceBitBoard(PieceType.ROOK, opponentAlliance) | queens)) |
+                             (MagicBitBoards.bishopAttacks(kingPosition, opponentPieces) & (this.getPieceBitBoard(PieceType.BISHOP, opponentAlliance) | queens));
+        long pinnedPieces = BitBoards.EMPTY;
+        for (long squares = snipers; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            final long blockers = BitBoards.betweenSquares(kingPosition, BitBoards.firstSquare(squares)) & this.occupancy;
+            if (BitBoards.countSquares(blockers) == 1) {
+                pinnedPieces |= blockers & this.getAllianceOccupancy(alliance);
+            }
+        }
+        return pinnedPieces;
+    }
+
+    public boolean isSquareAttacked(final int tilePosition, final Alliance attackerAlliance) {
+        return this.calculateAttackers(tilePosition, attackerAlliance, this.occupancy) != BitBoards.EMPTY;
+    }
+
+    public boolean isInCheck(final Alliance alliance) {
+        return this.isSquareAttacked(BitBoards.firstSquare(this.getPieceBitBoard(PieceType.KING, alliance)), opposite(alliance));
+    }
+
+    public boolean hasLegalMove() {
+        final int moveCount = this.generateMoves(this.sideToMove, this.scratchMoves, 0);
+        for (int i = 0; i < moveCount; i++) {
+            if (this.makeMove(this.scratchMoves[i])) {
+                this.unmakeMove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int generateMoves(final int[] moves) {
+        return this.generateMoves(this.sideToMove, moves, 0);
+    }
+
+    public int generateMoves(final Alliance alliance, final int[] moves, int moveCount) {
+        final long ownPieces = this.getAllianceOccupancy(alliance);
+        final long enemyPieces = this.getAllianceOccupancy(opposite(alliance));
+        for (long squares = ownPieces; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            final int source = BitBoards.firstSquare(squares);
+            final PieceType pieceType = getPieceType(this.pieceCodes[source]);
+            if (pieceType == PieceType.PAWN) {
+                moveCount = this.generatePawnMoves(source, alliance, enemyPieces, moves, moveCount);
+            } else {
+                final long targets = this.attacks(pieceType, source) & ~ownPieces;
+                for (long destinations = targets; destinations != BitBoards.EMPTY; destinations = BitBoards.withoutFirstSquare(destinations)) {
+                    final int destination = BitBoards.firstSquare(destinations);
+                    final int type = BitBoards.isSet(enemyPieces, destination) ? EncodedMove.ATTACK : EncodedMove.NORMAL;
+                    moves[moveCount++] = EncodedMove.create(source, destination, type, this.pieceCodes[source], this.pieceCodes[destination]);
+                }
+            }
+        }
+        return moveCount;
+    }
+
+    public int generateCaptures(final int[] moves) {
+        final Alliance alliance = this.sideToMove;
+        final long ownPieces = this.getAllianceOccupancy(alliance);
+        final long enemyPieces = this.getAllianceOccupancy(opposite(alliance));
+        int moveCount = 0;
+        for (long squares = ownPieces; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            final int source = BitBoards.firstSquare(squares);
+            final PieceType pieceType = getPieceType(this.pieceCodes[source]);
+            final long attacks = pieceType == PieceType.PAWN ? BitBoards.pawnAttacks(alliance, source) : this.attacks(pieceType, source);
+            for (long destinations = attacks & enemyPieces; destinations != BitBoards.EMPTY; destinations = BitBoards.withoutFirstSquare(destinations)) {
+                final int destination = BitBoards.firstSquare(destinations);
+                moves[moveCount++] = EncodedMove.create(source, destination, EncodedMove.ATTACK, this.pieceCodes[source], this.pieceCodes[destination]);
+            }
+            if (pieceType == PieceType.PAWN && this.enPassantSquare != NO_SQUARE && BitBoards.isSet(enemyPieces, this.enPassantSquare)) {
+                final int enPassantDestination = this.enPassantSquare + alliance.getDirection() * BoardUtils.BOARD_COLUMNS;
+                if (BitBoards.isSet(attacks, enPassantDestination) && !BitBoards.isSet(this.occupancy, enPassantDestination)) {
+                    moves[moveCount++] = EncodedMove.create(source, enPassantDestination, EncodedMove.EN_PASSANT, this.pieceCodes[source], this.pieceCodes[this.enPassantSquare]);
+                }
+            }
+        }
+        return moveCount;
+    }
+
+    private int generatePawnMoves(final int source, final Alliance alliance, final long enemyPieces, final int[] moves, int moveCount) {
+        final int step = alliance.getDirection() * BoardUtils.BOARD_COLUMNS;
+        final int pushSquare = source + step;
+        if (BoardUtils.isValidTile(pushSquare) && !BitBoards.isSet(this.occupancy, pushSquare)) {
+            moves[moveCount++] = EncodedMove.create(source, pushSquare, EncodedMove.NORMAL, this.pieceCodes[source], NO_PIECE);
+            final int jumpSquare = pushSquare + step;
+            if (BitBoards.isSet(this.flaggedPieces, source) && BoardUtils.isValidTile(jumpSquare) && !BitBoards.isSet(this.occupancy, jumpSquare)) {
+                moves[moveCount++] = EncodedMove.create(source, jumpSquare, EncodedMove.PAWN_JUMP, this.pieceCodes[source], NO_PIECE);
+            }
+        }
+        final long attacks = BitBoards.pawnAttacks(alliance, source);
+        for (long destinations = attacks & enemyPieces; destinations != BitBoards.EMPTY; destinations = BitBoards.withoutFirstSquare(destinations)) {
+            final int destination = BitBoards.firstSquare(destinations);
+            moves[moveCount++] = EncodedMove.create(source, destination, EncodedMove.ATTACK, this.pieceCodes[source], this.pieceCodes[destination]);
+        }
+        if (this.enPassantSquare != NO_SQUARE && BitBoards.isSet(enemyPieces, this.enPassantSquare)) {
+            final int enPassantDestination = this.enPassantSquare + step;
+            if (BitBoards.isSet(attacks, enPassantDestination) && !BitBoards.isSet(this.occupancy, enPassantDestination)) {
+                moves[moveCount++] = EncodedMove.create(source, enPassantDestination, EncodedMove.EN_PASSANT, this.pieceCodes[source], this.pieceCodes[this.enPassantSquare]);
+            }
+        }
+        return moveCount;
+    }
+
+    // Counts strictly legal moves with the same check and pin rules as Board, so mobility agrees between the two.
+    public int countMoves(final Alliance alliance) {
+        final Alliance opponentAlliance = opposite(alliance);
+        final long ownPieces = this.getAllianceOccupancy(alliance);
+        final long enemyPieces = this.getAllianceOccupancy(opponentAlliance);
+        final long enemyKing = this.getPieceBitBoard(PieceType.KING, opponentAlliance);
+        final int kingPosition = BitBoards.firstSquare(this.getPieceBitBoard(PieceType.KING, alliance));
+        final long checkers = this.calculateAttackers(kingPosition, opponentAlliance, this.occupancy);
+        final long pinnedPieces = this.calculatePinnedPieces(kingPosition, alliance);
+        final long checkMask = checkers == BitBoards.EMPTY ? ~BitBoards.EMPTY :
+                               BitBoards.countSquares(checkers) > 1 ? BitBoards.EMPTY :
+                               checkers | BitBoards.betweenSquares(kingPosition, BitBoards.firstSquare(checkers));
+        int moveCount = 0;
+        for (long squares = ownPieces; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            final int source = BitBoards.firstSquare(squares);
+            final PieceType pieceType = getPieceType(this.pieceCodes[source]);
+            if (source == kingPosition) {
+                final long kingOccupancy = this.occupancy & ~BitBoards.squareMask(source);
+                for (long destinations = BitBoards.kingAttacks(source) & ~ownPieces & ~enemyKing; destinations != BitBoards.EMPTY; destinations = BitBoards.withoutFirstSquare(destinations)) {
+                    if (this.calculateAttackers(BitBoards.firstSquare(destinations), opponentAlliance, kingOccupancy) == BitBoards.EMPTY) {
+                        moveCount++;
+                    }
+                }
+                continue;
+            }
+            long targets = pieceType == PieceType.PAWN ? this.pawnTargets(source, alliance, enemyPieces) : this.attacks(pieceType, source) & ~ownPieces;
+            targets &= ~enemyKing & checkMask;
+            if (BitBoards.isSet(pinnedPieces, source)) {
+                targets &= BitBoards.lineSquares(kingPosition, source);
+            }
+            moveCount += BitBoards.countSquares(targets);
+            if (pieceType == PieceType.PAWN && this.isLegalEnPassant(source, alliance, kingPosition, enemyPieces)) {
+                moveCount++;
+            }
+        }
+        return moveCount;
+    }
+
+    private long pawnTargets(final int source, final Alliance alliance, final long enemyPieces) {
+        long targets = BitBoards.pawnAttacks(alliance, source) & enemyPieces;
+        final int step = alliance.getDirection() * BoardUtils.BOARD_COLUMNS;
+        final int pushSquare = source + step;
+        if (BoardUtils.isValidTile(pushSquare) && !BitBoards.isSet(this.occupancy, pushSquare)) {
+            targets |= BitBoards.squareMask(pushSquare);
+            final int jumpSquare = pushSquare + step;
+            if (BitBoards.isSet(this.flaggedPieces, source) && BoardUtils.isValidTile(jumpSquare) && !BitBoards.isSet(this.occupancy, jumpSquare)) {
+                targets |= BitBoards.squareMask(jumpSquare);
+            }
+        }
+        return targets;
+    }
+
+    private boolean isLegalEnPassant(final int source, final Alliance alliance, final int kingPosition, final long enemyPieces) {
+        if (this.enPassantSquare == NO_SQUARE || !BitBoards.isSet(enemyPieces, this.enPassantSquare)) {
+            return false;
+        }
+        final int destination = this.enPassantSquare + alliance.getDirection() * BoardUtils.BOARD_COLUMNS;
+        if (!BitBoards.isSet(BitBoards.pawnAttacks(alliance, source), destination) || BitBoards.isSet(this.occupancy, destination)) {
+            return false;
+        }
+        final long capturedSquare = BitBoards.squareMask(this.enPassantSquare);
+        final long occupancy = (this.occupancy & ~BitBoards.squareMask(source) & ~capturedSquare) | BitBoards.squareMask(destination);
+        return (this.calculateAttackers(kingPosition, opposite(alliance), occupancy) & ~capturedSquare) == BitBoards.EMPTY;
+    }
+
+    private long attacks(final PieceType pieceType, final int source) {
+        switch (pieceType) {
+            case KNIGHT:
+                return BitBoards.knightAttacks(source);
+            case KING:
+                return BitBoards.kingAttacks(source);
+            case BISHOP:
+                return MagicBitBoards.bishopAttacks(source, this.occupancy);
+            case ROOK:
+                return MagicBitBoards.rookAttacks(source, this.occupancy);
+            case QUEEN:
+                return MagicBitBoards.queenAttacks(source, this.occupancy);
+            default:
+                throw new RuntimeException("Pawns have no sliding or leaping attacks!");
+        }
+    }
+
+    public boolean makeMove(final int move) {
+        final int source = EncodedMove.getSource(move);
+        final int destination = EncodedMove.getDestination(move);
+        final int type = EncodedMove.getType(move);
+        final int captureSquare = type == EncodedMove.EN_PASSANT ? this.enPassantSquare : destination;
+        final int capturedPiece = EncodedMove.getCapturedPiece(move);
+        assert capturedPiece == (EncodedMove.isAttack(move) ? this.pieceCodes[captureSquare] : NO_PIECE) : "Encoded move does not match the board!";
+        if (capturedPiece != NO_PIECE && getPieceType(capturedPiece) == PieceType.KING) {
+            return false;
+        }
+        final Alliance mover = this.sideToMove;
+        this.undoMoves[this.ply] = move;
+        this.undoCapturedPieces[this.ply] = capturedPiece;
+        this.undoCaptureSquares[this.ply] = captureSquare;
+        this.undoEnPassantSquares[this.ply] = this.enPassantSquare;
+        this.undoFlaggedPieces[this.ply] = this.flaggedPieces;
+        this.undoZobristKeys[this.ply] = this.zobristKey;
+        this.undoPawnZobristKeys[this.ply] = this.pawnZobristKey;
+        this.ply++;
+        if (capturedPiece != NO_PIECE) {
+            this.removePiece(captureSquare, capturedPiece);
+            this.zobristKey ^= Zobrist.pieceKey(capturedPiece, captureSquare);
+            this.pawnZobristKey ^= Zobrist.pawnKey(capturedPiece, captureSquare);
+        }
+        final int movingPiece = this.pieceCodes[source];
+        this.removePiece(source, movingPiece);
+        this.putPiece(destination, movingPiece);
+        this.zobristKey ^= Zobrist.pieceKey(movingPiece, source) ^ Zobrist.pieceKey(movingPiece, destination);
+        this.pawnZobristKey ^= Zobrist.pawnKey(movingPiece, source) ^ Zobrist.pawnKey(movingPiece, destination);
+        if (BitBoards.isSet(this.flaggedPieces, source) && getPieceType(movingPiece) == PieceType.KING) {
+            this.zobristKey ^= Zobrist.castledKey(mover);
+        }
+        this.flaggedPieces &= ~(BitBoards.squareMask(source) | BitBoards.squareMask(captureSquare));
+        if (this.enPassantSquare != NO_SQUARE) {
+            this.zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare);
+        }
+        this.enPassantSquare = type == EncodedMove.PAWN_JUMP ? destination : NO_SQUARE;
+        if (this.enPassantSquare != NO_SQUARE) {
+            this.zobristKey ^= Zobrist.enPassantKey(this.enPassantSquare);
+        }
+        this.sideToMove = opposite(mover);
+        this.zobristKey ^= Zobrist.switchSideKey();
+        assert this.zobristKey == Zobrist.calculateKey(this) : "Incremental Zobrist key diverged from a full recomputation!";
+        assert this.pawnZobristKey == Zobrist.calculatePawnKey(this) : "Incremental pawn Zobrist key diverged from a full recomputation!";
+        assert this.hasConsistentScores() : "Incremental material or piece-square scores diverged from a full recomputation!";
+        if (this.isInCheck(mover)) {
+            this.unmakeMove();
+            return false;
+        }
+        return true;
+    }
+
+    public void unmakeMove() {
+        this.ply--;
+        final int move = this.undoMoves[this.ply];
+        final int source = EncodedMove.getSource(move);
+        final int destination = EncodedMove.getDestination(move);
+        final int movingPiece = this.pieceCodes[destination];
+        this.removePiece(destination, movingPiece);
+        this.putPiece(source, movingPiece);
+        final int capturedPiece = this.undoCapturedPieces[this.ply];
+        if (capturedPiece != NO_PIECE) {
+            this.putPiece(this.undoCaptureSquares[this.ply], capturedPiece);
+        }
+        this.enPassantSquare = this.undoEnPassantSquares[this.ply];
+        this.flaggedPieces = this.undoFlaggedPieces[this.ply];
+        this.zobristKey = this.undoZobristKeys[this.ply];
+        this.pawnZobristKey = this.undoPawnZobristKeys[this.ply];
+        this.sideToMove = opposite(this.sideToMove);
+        assert this.hasConsistentScores() : "Incremental material or piece-square scores diverged from a full recomputation!";
+    }
+
+    private void putPiece(final int tilePosition, final int pieceCode) {
+        final long square = BitBoards.squareMask(tilePosition);
+        this.pieceCodes[tilePosition] = pieceCode;
+        this.pieceBitBoards[pieceCode] |= square;
+        this.allianceOccupancy[pieceCode / BitBoards.NUMBER_OF_PIECE_TYPES] |= square;
+        this.occupancy |= square;
+        this.material[pieceCode / BitBoards.NUMBER_OF_PIECE_TYPES] += getPieceValue(pieceCode);
+        this.positionalScore[pieceCode / BitBoards.NUMBER_OF_PIECE_TYPES] += PieceSquareTables.getValue(pieceCode, tilePosition);
+    }
+
+    private void removePiece(final int tilePosition, final int pieceCode) {
+        final long square = BitBoards.squareMask(tilePosition);
+        this.pieceCodes[tilePosition] = NO_PIECE;
+        this.pieceBitBoards[pieceCode] &= ~square;
+        this.allianceOccupancy[pieceCode / BitBoards.NUMBER_OF_PIECE_TYPES] &= ~square;
+        this.occupancy &= ~square;
+        this.material[pieceCode / BitBoards.NUMBER_OF_PIECE_TYPES] -= getPieceValue(pieceCode);
+        this.positionalScore[pieceCode / BitBoards.NUMBER_OF_PIECE_TYPES] -= PieceSquareTables.getValue(pieceCode, tilePosition);
+    }
+
+    public Board toBoard() {
+        final Board.Builder builder = new Board.Builder();
+        for (long squares = this.occupancy; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            final int tilePosition = BitBoards.firstSquare(squares);
+            final int pieceCode = this.pieceCodes[tilePosition];
+            final PieceType pieceType = getPieceType(pieceCode);
+            final Alliance pieceAlliance = getPieceAlliance(pieceCode);
+            final boolean isFlagged = BitBoards.isSet(this.flaggedPieces, tilePosition);
+            final Piece piece = Piece.createPiece(pieceType, tilePosition, pieceAlliance, isFlagged);
+            builder.setPiece(tilePosition, piece);
+            if (tilePosition == this.enPassantSquare) {
+                builder.setEnPassantPawn((Pawn)piece);
+            }
+        }
+        builder.setNextMoveMaker(this.sideToMove);
+        return builder.build();
+    }
+}
@@ -0,0 +1,171 @@
+package com.chess.game.board;
+
+import com.chess.game.Alliance;
+import com.chess.game.pieces.Piece;
+import com.chess.game.pieces.PieceType;
+
+public final class PieceSquareTables {
+    private static final int MIRROR_ROWS = 56;
+    private static final int ENDGAME_SHIFT = 16;
+    private static final int ENDGAME_ROUNDING = 1 << (ENDGAME_SHIFT - 1);
+
+    private static final int[] BISHOP_TABLE = {
+            -20, -10, -10, -10, -10, -10, -10, -20,
+            -10,   0,   0,   0,   0,   0,   0, -10,
+            -10,   0,   5,  10,  10,   5,   0, -10,
+            -10,   5,   5,  10,  10,   5,   5, -10,
+            -10,   0,  10,  10,  10,  10,   0, -10,
+            -10,  10,  10,  10,  10,  10,  10, -10,
+            -10,   5,   0,   0,   0,   0,   5, -10,
+            -20, -10, -10, -10, -10, -10, -10, -20
+    };
+
+    private static final int[] KING_TABLE = {
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -30, -40, -40, -50, -50, -40, -40, -30,
+            -20, -30, -30, -40, -40, -30, -30, -20,
+            -10, -20, -20, -20, -20, -20, -20, -10,
+             20,  20,   0,   0,   0,   0,  20,  20,
+             20,  30,  10,   0,   0,  10,  30,  20
+    };
+
+    private static final int[] KING_ENDGAME_TABLE = {
+            -50, -40, -30, -20, -20, -30, -40, -50,
+            -30, -20, -10,   0,   0, -10, -20, -30,
+            -30, -10,  20,  30,  30,  20, -10, -30,
+            -30, -10,  30,  40,  40,  30, -10, -30,
+            -30, -10,  30,  40,  40,  30, -10, -30,
+            -30, -10,  20,  30,  30,  20, -10, -30,
+            -30, -30,   0,   0,   0,   0, -30, -30,
+            -50, -30, -30, -30, -30, -30, -30, -50
+    };
+
+    private static final int[] KNIGHT_TABLE = {
+            -50, -40, -30, -30, -30, -30, -40, -50,
+            -40, -20,   0,   0,   0,   0, -20, -40,
+            -30,   0,  10,  15,  15,  10,   0, -30,
+            -30,   5,  15,  20,  20,  15,   5, -30,
+            -30,   0,  15,  20,  20,  15,   0, -30,
+            -30,   5,  10,  15,  15,  10,   5, -30,
+            -40, -20,   0,   5,   5,   0, -20, -40,
+            -50, -40, -30, -30, -30, -30, -40, -50
+    };
+
+    private static final int[] PAWN_TABLE = {
+              0,   0,   0,   0,   0,   0,   0,   0,
+             50,  50,  50,  50,  50,  50,  50,  50,
+             10,  10,  20,  30,  30,  20,  10,  10,
+              5,   5,  10,  25,  25,  10,   5,   5,
+              0,   0,   0,  20,  20,   0,   0,   0,
+              5,  -5, -10,   0,   0, -10,  -5,   5,
+              5,  10,  10, -20, -20,  10,  10,   5,
+              0,   0,   0,   0,   0,   0,   0,   0
+    };
+
+    private static final int[] PAWN_ENDGAME_TABLE = {
+              0,   0,   0,   0,   0,   0,   0,   0,
+             40,  40,  40,  40,  40,  40,  40,  40,
+             25,  25,  25,  25,  25,  25,  25,  25,
+             15,  15,  15,  15,  15,  15,  15,  15,
+              5,   5,   5,   5,   5,   5,   5,   5,
+              0,   0,   0,   0,   0,   0,   0,   0,
+              0,   0,   0,   0,   0,   0,   0,   0,
+              0,   0,   0,   0,   0,   0,   0,   0
+    };
+
+    private static final int[] QUEEN_TABLE = {
+            -20, -10, -10,  -5,  -5, -10, -10, -20,
+            -10,   0,   0,   0,   0,   0,   0, -10,
+            -10,   0,   5,   5,   5,   5,   0, -10,
+             -5,   0,   5,   5,   5,   5,   0,  -5,
+              0,   0,   5,   5,   5,   5,   0,  -5,
+            -10,   5,   5,   5,   5,   5,   0, -10,
+            -10,   0,   5,   0,   0,   0,   0, -10,
+            -20, -10, -10,  -5,  -5, -10, -10, -20
+    };
+
+    private static final int[] ROOK_TABLE = {
+              0,   0,   0,   0,   0,   0,   0,   0,
+              5,  10,  10,  10,  10,  10,  10,   5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+             -5,   0,   0,   0,   0,   0,   0,  -5,
+              0,   0,   0,   5,   5,   0,   0,   0
+    };
+
+    private static final int[][] SQUARE_VALUES = createSquareValues();
+
+    private PieceSquareTables() {
+        throw new RuntimeException("You can not create me!");
+    }
+
+    private static int[][] createSquareValues() {
+        final int[][] squareValues = new int[BitBoards.NUMBER_OF_PIECE_BIT_BOARDS][BoardUtils.NUMBER_OF_BOARD_TILES];
+        for (final Alliance alliance : Alliance.values()) {
+            for (final PieceType pieceType : PieceType.values()) {
+                final int[] middlegameTable = getTable(pieceType);
+                final int[] endgameTable = getEndgameTable(pieceType);
+                final int[] values = squareValues[BitBoards.pieceIndex(pieceType, alliance)];
+                for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+                    final int tablePosition = alliance == Alliance.WHITE ? i : i ^ MIRROR_ROWS;
+                    values[i] = createScore(middlegameTable[tablePosition], endgameTable[tablePosition]);
+                }
+            }
+        }
+        return squareValues;
+    }
+
+    private static int[] getTable(final PieceType pieceType) {
+        switch (pieceType) {
+            case BISHOP:
+                return BISHOP_TABLE;
+            case KING:
+                return KING_TABLE;
+            case KNIGHT:
+                return KNIGHT_TABLE;
+            case PAWN:
+                return PAWN_TABLE;
+            case QUEEN:
+                return QUEEN_TABLE;
+            case ROOK:
+                return ROOK_TABLE;
+            default:
+                throw new RuntimeException("Unknown piece type " + pieceType + "!");
+        }
+    }
+
+    private static int[] getEndgameTable(final PieceType pieceType) {
+        if (pieceType == PieceType.KING) {
+            return KING_ENDGAME_TABLE;
+        }
+        if (pieceType == PieceType.PAWN) {
+            return PAWN_ENDGAME_TABLE;
+        }
+        return getTable(pieceType);
+    }
+
+    // Middlegame score in the low 16 bits and endgame score above them, so packed scores can be summed directly.
+    private static int createScore(final int middlegameScore, final int endgameScore) {
+        return (endgameScore << ENDGAME_SHIFT) + middlegameScore;
+    }
+
+    public static int getMiddlegameScore(final int score) {
+        return (short)score;
+    }
+
+    public static int getEndgameScore(final int score) {
+        return (score + ENDGAME_ROUNDING) >> ENDGAME_SHIFT;
+    }
+
+    public static int getValue(final int pieceCode, final int tilePosition) {
+        return SQUARE_VALUES[pieceCode][tilePosition];
+    }
+
+    public static int getValue(final Piece piece) {
+        return SQUARE_VALUES[BitBoards.pieceIndex(piece.getPieceType(), piece.getPieceAlliance())][piece.getPiecePosition()];
+    }
+}
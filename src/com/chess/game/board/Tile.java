@@ -1,6 +1,8 @@
 package com.chess.game.board;
 
+import com.chess.game.Alliance;
 import com.chess.game.pieces.Piece;
+import com.chess.game.pieces.PieceType;
 
 import java.util.Collections;
 import java.util.HashMap;
@@ -10,6 +12,7 @@ public abstract class Tile {
     protected final int tileCoordinate;
 
     private static final Map<Integer, EmptyTile> EMPTY_TILE_CACHE = createAllPossibleEmptyTiles();
+    private static final OccupiedTile[][][] OCCUPIED_TILE_CACHE = createAllPossibleOccupiedTiles();
 
     private static Map<Integer, EmptyTile> createAllPossibleEmptyTiles() {
         Map<Integer, EmptyTile> emptyTileMap = new HashMap<Integer, EmptyTile>();
@@ -19,8 +22,28 @@ public abstract class Tile {
         return Collections.unmodifiableMap(emptyTileMap);
     }
 
+    private static OccupiedTile[][][] createAllPossibleOccupiedTiles() {
+        final OccupiedTile[][][] occupiedTiles = new OccupiedTile[BitBoards.NUMBER_OF_PIECE_BIT_BOARDS][2][BoardUtils.NUMBER_OF_BOARD_TILES];
+        for (final Alliance pieceAlliance : Alliance.values()) {
+            for (final PieceType pieceType : PieceType.values()) {
+                final OccupiedTile[][] flaggedTiles = occupiedTiles[BitBoards.pieceIndex(pieceType, pieceAlliance)];
+                for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+                    flaggedTiles[0][i] = new OccupiedTile(i, Piece.createPiece(pieceType, i, pieceAlliance, false));
+                    if (pieceType.hasFlag()) {
+                        flaggedTiles[1][i] = new OccupiedTile(i, Piece.createPiece(pieceType, i, pieceAlliance, true));
+                    }
+                }
+            }
+        }
+        return occupiedTiles;
+    }
+
     public static Tile createTile(int tileCoordinate, Piece piece) {
-        return piece != null ? new OccupiedTile(tileCoordinate, piece) : EMPTY_TILE_CACHE.get(tileCoordinate);
+        if (piece == null) {
+            return EMPTY_TILE_CACHE.get(tileCoordinate);
+        }
+        return OCCUPIED_TILE_CACHE[BitBoards.pieceIndex(piece.getPieceType(), piece.getPieceAlliance())]
+                                  [piece.isFlagged() ? 1 : 0][tileCoordinate];
     }
 
     private Tile(final int tileCoordinate) {
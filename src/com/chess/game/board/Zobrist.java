@@ -0,0 +1,124 @@
+package com.chess.game.board;
+
+import com.chess.game.Alliance;
+import com.chess.game.pieces.King;
+import com.chess.game.pieces.Pawn;
+import com.chess.game.pieces.Piece;
+import com.chess.game.pieces.PieceType;
+
+import java.util.Random;
+
+public final class Zobrist {
+    private static final long ZOBRIST_SEED = 0x3243F6A8885A308DL;
+    private static final long[][] PIECE_KEYS = new long[BitBoards.NUMBER_OF_PIECE_BIT_BOARDS][BoardUtils.NUMBER_OF_BOARD_TILES];
+    private static final long[] EN_PASSANT_KEYS = new long[BoardUtils.NUMBER_OF_BOARD_TILES];
+    private static final long[] CASTLED_KEYS = new long[Alliance.values().length];
+    private static final long BLACK_TO_MOVE_KEY;
+
+    static {
+        final Random random = new Random(ZOBRIST_SEED);
+        for (final long[] pieceKeys : PIECE_KEYS) {
+            for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+                pieceKeys[i] = random.nextLong();
+            }
+        }
+        for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+            EN_PASSANT_KEYS[i] = random.nextLong();
+        }
+        for (int i = 0; i < CASTLED_KEYS.length; i++) {
+            CASTLED_KEYS[i] = random.nextLong();
+        }
+        BLACK_TO_MOVE_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+        throw new RuntimeException("You can not create me!");
+    }
+
+    public static long pieceKey(final int pieceCode, final int tilePosition) {
+        return PIECE_KEYS[pieceCode][tilePosition];
+    }
+
+    public static long pieceKey(final Piece piece) {
+        return PIECE_KEYS[BitBoards.pieceIndex(piece.getPieceType(), piece.getPieceAlliance())][piece.getPiecePosition()];
+    }
+
+    public static long pawnKey(final int pieceCode, final int tilePosition) {
+        return pieceCode % BitBoards.NUMBER_OF_PIECE_TYPES == PieceType.PAWN.ordinal() ? PIECE_KEYS[pieceCode][tilePosition] : 0L;
+    }
+
+    public static long pawnKey(final Piece piece) {
+        return piece.getPieceType() == PieceType.PAWN ? pieceKey(piece) : 0L;
+    }
+
+    public static long enPassantKey(final int tilePosition) {
+        return EN_PASSANT_KEYS[tilePosition];
+    }
+
+    public static long enPassantKey(final Pawn enPassantPawn) {
+        return enPassantPawn != null ? EN_PASSANT_KEYS[enPassantPawn.getPiecePosition()] : 0L;
+    }
+
+    public static long castledKey(final Alliance alliance) {
+        return CASTLED_KEYS[alliance.ordinal()];
+    }
+
+    public static long castledKey(final Piece piece) {
+        return piece.getPieceType() == PieceType.KING && ((King)piece).isCastled() ? castledKey(piece.getPieceAlliance()) : 0L;
+    }
+
+    public static long sideToMoveKey(final Alliance alliance) {
+        return alliance == Alliance.BLACK ? BLACK_TO_MOVE_KEY : 0L;
+    }
+
+    public static long switchSideKey() {
+        return BLACK_TO_MOVE_KEY;
+    }
+
+    public static long calculateKey(final Board board) {
+        long key = sideToMoveKey(board.getCurrentPlayer().getAlliance()) ^ enPassantKey(board.getEnPassantPawn());
+        for (long squares = board.getOccupancy(); squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            final Piece piece = board.getPiece(BitBoards.firstSquare(squares));
+            key ^= pieceKey(piece) ^ castledKey(piece);
+        }
+        return key;
+    }
+
+    public static long calculateKey(final MutableBoard board) {
+        long key = sideToMoveKey(board.getSideToMove());
+        if (board.getEnPassantSquare() != MutableBoard.NO_SQUARE) {
+            key ^= enPassantKey(board.getEnPassantSquare());
+        }
+        for (long squares = board.getOccupancy(); squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            final int tilePosition = BitBoards.firstSquare(squares);
+            key ^= pieceKey(board.getPieceCode(tilePosition), tilePosition);
+        }
+        for (final Alliance alliance : Alliance.values()) {
+            if (board.isCastled(alliance)) {
+                key ^= castledKey(alliance);
+            }
+        }
+        return key;
+    }
+
+    public static long calculatePawnKey(final Board board) {
+        long key = 0L;
+        for (final Alliance alliance : Alliance.values()) {
+            for (long squares = board.getPieceBitBoard(PieceType.PAWN, alliance); squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+                key ^= pieceKey(board.getPiece(BitBoards.firstSquare(squares)));
+            }
+        }
+        return key;
+    }
+
+    public static long calculatePawnKey(final MutableBoard board) {
+        long key = 0L;
+        for (final Alliance alliance : Alliance.values()) {
+            for (long squares = board.getPieceBitBoard(PieceType.PAWN, alliance); squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+                final int tilePosition = BitBoards.firstSquare(squares);
+                key ^= pieceKey(board.getPieceCode(tilePosition), tilePosition);
+            }
+        }
+        return key;
+    }
+}
@@ -8,9 +8,11 @@ import com.chess.game.player.Move;
 import com.chess.game.player.Move.MoveFactory;
 import com.chess.game.player.MoveStatus;
 import com.chess.game.player.MoveTransition;
-import com.chess.game.player.ai.MiniMax;
+import com.chess.game.player.Player;
+import com.chess.game.player.ai.IterativeDeepening;
 import com.chess.game.player.ai.MoveStrategy;
-import javafx.util.Pair;
+import com.chess.game.player.ai.OpeningBook;
+import com.chess.game.player.ai.TranspositionTable;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -22,6 +24,9 @@ import java.awt.event.MouseListener;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Observable;
@@ -36,6 +41,7 @@ public final class Table extends Observable {
     private final GameSetup gameSetup;
     private final TakenPiecesPanel takenPiecesPanel;
     private final MoveLog moveLog;
+    private final MoveStrategy moveStrategy;
 
     private Board board;
     private BoardDirection boardDirection;
@@ -46,6 +52,9 @@ public final class Table extends Observable {
     private final static Dimension BOARD_TABLE_DIMENSION = new Dimension(600, 600);
     private final static Dimension BOARD_PANEL_DIMENSION = new Dimension(400, 350);
     private final static Dimension TILE_PANEL_DIMENSION = new Dimension(10, 10);
+    private final static long AI_THINK_TIME_MILLIS = 2000;
+    private final static int TRANSPOSITION_TABLE_MEGABYTES = 32;
+    private final static Path OPENING_BOOK_PATH = Paths.get("book", "book.bin");
 
     private final static Color lightTileColor = Color.decode("#FFFACD");
     private final static Color darkTileColor = Color.decode("#593E1A");
@@ -61,6 +70,7 @@ public final class Table extends Observable {
         this.takenPiecesPanel = new TakenPiecesPanel();
         this.boardPanel = new BoardPanel();
         this.moveLog = new MoveLog();
+        this.moveStrategy = createMoveStrategy();
         this.gameSetup = new GameSetup(this.gameBoard, true);
         this.addObserver(new TableGameAIWatcher());
         this.gameBoard.add(this.takenPiecesPanel, BorderLayout.WEST);
@@ -71,6 +81,11 @@ public final class Table extends Observable {
         this.gameBoard.setVisible(true);
     }
 
+    private static MoveStrategy createMoveStrategy() {
+        final MoveStrategy search = new IterativeDeepening(Table.AI_THINK_TIME_MILLIS, new TranspositionTable(Table.TRANSPOSITION_TABLE_MEGABYTES));
+        return Files.isRegularFile(Table.OPENING_BOOK_PATH) ? new OpeningBook(Table.OPENING_BOOK_PATH, search) : search;
+    }
+
     public static Table get() {
         return INSTANCE;
     }
@@ -79,6 +94,10 @@ public final class Table extends Observable {
         return this.gameSetup;
     }
 
+    private MoveStrategy getMoveStrategy() {
+        return this.moveStrategy;
+    }
+
     private Board getGameBoard() {
         return this.board;
     }
@@ -204,17 +223,16 @@ public final class Table extends Observable {
     private static class TableGameAIWatcher implements Observer {
         @Override
         public void update(Observable o, Object arg) {
-            if (Table.get().getGameSetup().isAIPlayer(Table.get().getGameBoard().getCurrentPlayer()) &&
-                !Table.get().getGameBoard().getCurrentPlayer().isInCheckMate() &&
-                !Table.get().getGameBoard().getCurrentPlayer().isInStaleMate()) {
-                    final AIThinkTank thinkTank = new AIThinkTank();
-                    thinkTank.execute();
-            } else if (Table.get().getGameBoard().getCurrentPlayer().isInCheckMate()) {
-                JOptionPane.showMessageDialog(Table.get().gameBoard, "The winner is the " + Table.get().getGameBoard().getCurrentPlayer().getOpponent().getAlliance().toString() + " player!");
+            final Player currentPlayer = Table.get().getGameBoard().getCurrentPlayer();
+            if (currentPlayer.isInCheckMate()) {
+                JOptionPane.showMessageDialog(Table.get().gameBoard, "The winner is the " + currentPlayer.getOpponent().getAlliance().toString() + " player!");
                 Table.get().clear();
-            } else if (Table.get().getGameBoard().getCurrentPlayer().isInStaleMate()) {
+            } else if (currentPlayer.isInStaleMate()) {
                 JOptionPane.showMessageDialog(Table.get().gameBoard, "The result is DRAW!");
                 Table.get().clear();
+            } else if (Table.get().getGameSetup().isAIPlayer(currentPlayer)) {
+                final AIThinkTank thinkTank = new AIThinkTank();
+                thinkTank.execute();
             }
         }
     }
@@ -226,8 +244,7 @@ public final class Table extends Observable {
 
         @Override
         protected Move doInBackground() throws Exception {
-            final MoveStrategy miniMax = new MiniMax(2);
-            final Move bestMove = miniMax.execute(Table.get().getGameBoard());
+            final Move bestMove = Table.get().getMoveStrategy().execute(Table.get().getGameBoard());
             return bestMove;
         }
 
@@ -374,8 +391,7 @@ public final class Table extends Observable {
         }
 
         private void assignTileColor() {
-            final Pair<Integer, Integer> tileCoordinates = BoardUtils.getPieceRowAndColumnCoordinates(this.tileId);
-            if (tileCoordinates.getKey() % 2 == tileCoordinates.getValue() % 2) {
+            if (BoardUtils.getRow(this.tileId) % 2 == BoardUtils.getColumn(this.tileId) % 2) {
                 this.setBackground(Table.lightTileColor);
             } else {
                 this.setBackground(Table.darkTileColor);
@@ -1,12 +1,20 @@
 package com.chess.game.pieces;
 
 import com.chess.game.Alliance;
+import com.chess.game.board.BitBoards;
 import com.chess.game.board.Board;
+import com.chess.game.board.BoardUtils;
 import com.chess.game.player.Move;
+import com.chess.game.player.Move.AttackingMove;
+import com.chess.game.player.Move.NormalMove;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public abstract class Piece {
+    private static final Piece[][][] PIECE_CACHE = createAllPossiblePieces();
+
     private final int piecePosition;
     private final Alliance pieceAlliance;
 
@@ -17,6 +25,20 @@ public abstract class Piece {
 
     public abstract List<Move> calculateLegalMoves(final Board board);
 
+    protected List<Move> createMoves(final Board board, final long attacks) {
+        final long targets = attacks & ~board.getAllianceOccupancy(this.pieceAlliance);
+        final List<Move> legalMoves = new ArrayList<>(BitBoards.countSquares(targets));
+        for (long squares = targets; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            final int pieceCoordinateCandidate = BitBoards.firstSquare(squares);
+            if (!board.isTileOccupied(pieceCoordinateCandidate)) {
+                legalMoves.add(new NormalMove(pieceCoordinateCandidate, this));
+            } else {
+                legalMoves.add(new AttackingMove(pieceCoordinateCandidate, this, board.getPiece(pieceCoordinateCandidate)));
+            }
+        }
+        return Collections.unmodifiableList(legalMoves);
+    }
+
     public Alliance getPieceAlliance() {
         return this.pieceAlliance;
     }
@@ -27,15 +49,46 @@ public abstract class Piece {
 
     public abstract PieceType getPieceType();
 
+    public boolean isFlagged() {
+        return false;
+    }
+
     public static Piece createPiece(final PieceType pieceType, final int piecePosition, final Alliance pieceAlliance) {
+        return createPiece(pieceType, piecePosition, pieceAlliance, false);
+    }
+
+    public static Piece createPiece(final PieceType pieceType,
+                                    final int piecePosition,
+                                    final Alliance pieceAlliance,
+                                    final boolean isFlagged) {
+        return PIECE_CACHE[BitBoards.pieceIndex(pieceType, pieceAlliance)][isFlagged && pieceType.hasFlag() ? 1 : 0][piecePosition];
+    }
+
+    private static Piece[][][] createAllPossiblePieces() {
+        final Piece[][][] pieces = new Piece[BitBoards.NUMBER_OF_PIECE_BIT_BOARDS][2][BoardUtils.NUMBER_OF_BOARD_TILES];
+        for (final Alliance pieceAlliance : Alliance.values()) {
+            for (final PieceType pieceType : PieceType.values()) {
+                final Piece[][] flaggedPieces = pieces[BitBoards.pieceIndex(pieceType, pieceAlliance)];
+                for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+                    flaggedPieces[0][i] = newPiece(pieceType, i, pieceAlliance, false);
+                    if (pieceType.hasFlag()) {
+                        flaggedPieces[1][i] = newPiece(pieceType, i, pieceAlliance, true);
+                    }
+                }
+            }
+        }
+        return pieces;
+    }
+
+    private static Piece newPiece(final PieceType pieceType, final int piecePosition, final Alliance pieceAlliance, final boolean isFlagged) {
         if (pieceType == PieceType.ROOK) {
             return new Rook(piecePosition, pieceAlliance);
         }
         if (pieceType == PieceType.PAWN) {
-            return new Pawn(piecePosition, pieceAlliance);
+            return new Pawn(piecePosition, pieceAlliance, isFlagged);
         }
         if (pieceType == PieceType.KING) {
-            return new King(piecePosition, pieceAlliance);
+            return new King(piecePosition, pieceAlliance, isFlagged);
         }
         if (pieceType == PieceType.KNIGHT) {
             return new Knight(piecePosition, pieceAlliance);
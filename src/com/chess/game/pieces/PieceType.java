@@ -38,6 +38,11 @@ public enum PieceType {
         }
     };
 
+    // Only pawns and kings track whether they have moved.
+    public boolean hasFlag() {
+        return this == PAWN || this == KING;
+    }
+
     @Override
     public abstract String toString();
 }
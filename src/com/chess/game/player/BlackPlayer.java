@@ -7,8 +7,8 @@ import com.chess.game.pieces.Piece;
 import java.util.List;
 
 public final class BlackPlayer extends Player {
-    public BlackPlayer(final Board board, final List<Move> legalMoves, final List<Move> opponentLegalMoves) {
-        super(board, legalMoves, opponentLegalMoves);
+    public BlackPlayer(final Board board) {
+        super(board);
     }
 
     @Override
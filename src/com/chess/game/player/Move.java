@@ -1,13 +1,13 @@
 package com.chess.game.player;
 
+import com.chess.game.board.BitBoards;
 import com.chess.game.board.Board;
+import com.chess.game.board.EncodedMove;
+import com.chess.game.board.MutableBoard;
+import com.chess.game.board.Zobrist;
 import com.chess.game.pieces.Pawn;
 import com.chess.game.pieces.Piece;
 
-import java.util.List;
-
-import static com.chess.game.board.Board.Builder;
-
 public abstract class Move {
     protected final int newPieceCoordinate;
     protected final Piece movingPiece;
@@ -27,6 +27,29 @@ public abstract class Move {
 
     public abstract Board execute(final Board board);
 
+    protected long calculateZobristKey(final Board board, final Piece movedPiece, final Piece capturedPiece, final Pawn enPassantPawn) {
+        long zobristKey = board.getZobristKey() ^
+                          Zobrist.pieceKey(this.movingPiece) ^ Zobrist.castledKey(this.movingPiece) ^
+                          Zobrist.pieceKey(movedPiece) ^ Zobrist.castledKey(movedPiece) ^
+                          Zobrist.enPassantKey(board.getEnPassantPawn()) ^ Zobrist.enPassantKey(enPassantPawn) ^
+                          Zobrist.switchSideKey();
+        if (capturedPiece != null) {
+            zobristKey ^= Zobrist.pieceKey(capturedPiece);
+        }
+        return zobristKey;
+    }
+
+    public int toEncodedMove() {
+        final Piece capturedPiece = this.getAttackingPiece();
+        return EncodedMove.create(this.getSourceDestination(),
+                                  this.newPieceCoordinate,
+                                  this.getEncodedType(),
+                                  BitBoards.pieceIndex(this.movingPiece.getPieceType(), this.movingPiece.getPieceAlliance()),
+                                  capturedPiece != null ? BitBoards.pieceIndex(capturedPiece.getPieceType(), capturedPiece.getPieceAlliance()) : MutableBoard.NO_PIECE);
+    }
+
+    protected abstract int getEncodedType();
+
     public abstract boolean isAttack();
 
     public abstract Piece getAttackingPiece();
@@ -37,23 +60,14 @@ public abstract class Move {
         }
 
         @Override
-        public Board execute(Board board) {
-            Builder builder = new Builder();
-            List<Piece> whitePieces = board.getWhitePieces();
-            List<Piece> blackPieces = board.getBlackPieces();
-            for (Piece piece : whitePieces) {
-                if (!this.movingPiece.equals(piece)) {
-                    builder.setPiece(piece.getPiecePosition(), piece);
-                }
-            }
-            for (Piece piece : blackPieces) {
-                if (!this.movingPiece.equals(piece)) {
-                    builder.setPiece(piece.getPiecePosition(), piece);
-                }
-            }
-            builder.setPiece(this.newPieceCoordinate, Piece.createPiece(this.movingPiece.getPieceType(), this.newPieceCoordinate, this.movingPiece.getPieceAlliance()));
-            builder.setNextMoveMaker(board.getCurrentPlayer().getOpponent().getAlliance());
-            return builder.build();
+        public Board execute(final Board board) {
+            final Piece movedPiece = Piece.createPiece(this.movingPiece.getPieceType(), this.newPieceCoordinate, this.movingPiece.getPieceAlliance());
+            return board.derive(this.movingPiece, movedPiece, null, null, this.calculateZobristKey(board, movedPiece, null, null));
+        }
+
+        @Override
+        protected int getEncodedType() {
+            return EncodedMove.NORMAL;
         }
 
         @Override
@@ -76,21 +90,15 @@ public abstract class Move {
         }
 
         @Override
-        public Board execute(Board board) {
-            final Builder builder = new Builder();
-            for (final Piece piece : board.getWhitePieces()) {
-                if (!piece.equals(this.movingPiece) && !piece.equals(this.attackingPiece)) {
-                    builder.setPiece(piece.getPiecePosition(), piece);
-                }
-            }
-            for (final Piece piece : board.getBlackPieces()) {
-                if (!piece.equals(this.movingPiece) && !piece.equals(this.attackingPiece)) {
-                    builder.setPiece(piece.getPiecePosition(), piece);
-                }
-            }
-            builder.setPiece(this.newPieceCoordinate, Piece.createPiece(this.movingPiece.getPieceType(), this.newPieceCoordinate, this.movingPiece.getPieceAlliance()));
-            builder.setNextMoveMaker(board.getCurrentPlayer().getOpponent().getAlliance());
-            return builder.build();
+        public Board execute(final Board board) {
+            final Piece movedPiece = Piece.createPiece(this.movingPiece.getPieceType(), this.newPieceCoordinate, this.movingPiece.getPieceAlliance());
+            return board.derive(this.movingPiece, movedPiece, this.attackingPiece, null,
+                                this.calculateZobristKey(board, movedPiece, this.attackingPiece, null));
+        }
+
+        @Override
+        protected int getEncodedType() {
+            return EncodedMove.ATTACK;
         }
 
         @Override
@@ -111,23 +119,8 @@ public abstract class Move {
         }
 
         @Override
-        public Board execute(final Board board) {
-            final Builder builder = new Builder();
-            for (final Piece piece : board.getCurrentPlayer().getActivePieces()) {
-                if (!this.movingPiece.equals(piece)) {
-                    builder.setPiece(piece.getPiecePosition(), piece);
-                }
-            }
-            for (final Piece piece : board.getCurrentPlayer().getOpponent().getActivePieces()) {
-                if (!piece.equals(this.attackingPiece)) {
-                    builder.setPiece(piece.getPiecePosition(), piece);
-                }
-            }
-            builder.setPiece(this.newPieceCoordinate, Piece.createPiece(this.movingPiece.getPieceType(),
-                                                                        this.newPieceCoordinate,
-                                                                        this.movingPiece.getPieceAlliance()));
-            builder.setNextMoveMaker(board.getCurrentPlayer().getOpponent().getAlliance());
-            return builder.build();
+        protected int getEncodedType() {
+            return EncodedMove.EN_PASSANT;
         }
     }
 
@@ -139,24 +132,13 @@ public abstract class Move {
 
         @Override
         public Board execute(final Board board) {
-            Builder builder = new Builder();
-            List<Piece> whitePieces = board.getWhitePieces();
-            List<Piece> blackPieces = board.getBlackPieces();
-            for (Piece piece : whitePieces) {
-                if (!this.movingPiece.equals(piece)) {
-                    builder.setPiece(piece.getPiecePosition(), piece);
-                }
-            }
-            for (Piece piece : blackPieces) {
-                if (!this.movingPiece.equals(piece)) {
-                    builder.setPiece(piece.getPiecePosition(), piece);
-                }
-            }
-            final Piece newPiece = Piece.createPiece(this.movingPiece.getPieceType(), this.newPieceCoordinate, this.movingPiece.getPieceAlliance());
-            builder.setPiece(this.newPieceCoordinate, newPiece);
-            builder.setEnPassantPawn((Pawn)newPiece);
-            builder.setNextMoveMaker(board.getCurrentPlayer().getOpponent().getAlliance());
-            return builder.build();
+            final Pawn movedPawn = (Pawn)Piece.createPiece(this.movingPiece.getPieceType(), this.newPieceCoordinate, this.movingPiece.getPieceAlliance());
+            return board.derive(this.movingPiece, movedPawn, null, movedPawn, this.calculateZobristKey(board, movedPawn, null, movedPawn));
+        }
+
+        @Override
+        protected int getEncodedType() {
+            return EncodedMove.PAWN_JUMP;
         }
     }
 
@@ -170,6 +152,16 @@ public abstract class Move {
             return null;
         }
 
+        @Override
+        public int toEncodedMove() {
+            return EncodedMove.NONE;
+        }
+
+        @Override
+        protected int getEncodedType() {
+            return EncodedMove.NONE;
+        }
+
         @Override
         public boolean isAttack() {
             return false;
@@ -196,5 +188,14 @@ public abstract class Move {
             }
             return MoveFactory.MULL_MOVE;
         }
+
+        public static Move createMove(final Board board, final int encodedMove) {
+            for (Move move : board.getCurrentPlayer().getLegalMoves()) {
+                if (move.toEncodedMove() == encodedMove) {
+                    return move;
+                }
+            }
+            return MoveFactory.MULL_MOVE;
+        }
     }
 }
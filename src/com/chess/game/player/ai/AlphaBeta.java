@@ -0,0 +1,312 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.Alliance;
+import com.chess.game.board.Board;
+import com.chess.game.board.EncodedMove;
+import com.chess.game.board.MutableBoard;
+import com.chess.game.player.Move;
+import com.chess.game.player.Move.MoveFactory;
+
+public final class AlphaBeta implements MoveStrategy {
+    static final int INFINITY = Integer.MAX_VALUE;
+    static final long NO_LIMIT = Long.MAX_VALUE;
+
+    private static final int LIMIT_CHECK_INTERVAL = 1024;
+    private static final int DELTA_MARGIN = 200;
+
+    private final BoardEvaluator boardEvaluator;
+    private final int searchDepth;
+    private final int[][] moveBuffers;
+    private final TranspositionTable transpositionTable;
+    private final MoveOrderer moveOrderer;
+    private final boolean useQuiescence;
+    private final boolean useDeltaPruning;
+    private final int[][] quiescenceMoveBuffers;
+    private long nodeCount;
+    private long quiescenceNodeCount;
+    private long deadline;
+    private long nodeLimit;
+    private boolean isAborted;
+    private volatile boolean isStopped;
+    private int bestValue;
+
+    public AlphaBeta(final int searchDepth) {
+        this(searchDepth, null);
+    }
+
+    public AlphaBeta(final int searchDepth, final TranspositionTable transpositionTable) {
+        this(searchDepth, transpositionTable, new MoveOrderer(), true);
+    }
+
+    public AlphaBeta(final int searchDepth, final TranspositionTable transpositionTable, final BoardEvaluator boardEvaluator) {
+        this(searchDepth, transpositionTable, boardEvaluator, new MoveOrderer(), true, true);
+    }
+
+    public AlphaBeta(final int searchDepth,
+                     final TranspositionTable transpositionTable,
+                     final MoveOrderer moveOrderer,
+                     final boolean useQuiescence) {
+        this(searchDepth, transpositionTable, new StandardBoardEvaluator(), moveOrderer, useQuiescence, true);
+    }
+
+    AlphaBeta(final int searchDepth,
+              final TranspositionTable transpositionTable,
+              final MoveOrderer moveOrderer,
+              final boolean useQuiescence,
+              final boolean useDeltaPruning) {
+        this(searchDepth, transpositionTable, new StandardBoardEvaluator(), moveOrderer, useQuiescence, useDeltaPruning);
+    }
+
+    AlphaBeta(final int searchDepth,
+              final TranspositionTable transpositionTable,
+              final BoardEvaluator boardEvaluator,
+              final MoveOrderer moveOrderer,
+              final boolean useQuiescence,
+              final boolean useDeltaPruning) {
+        this.boardEvaluator = boardEvaluator;
+        this.searchDepth = searchDepth;
+        this.moveBuffers = new int[searchDepth + 1][MutableBoard.MAX_MOVES];
+        this.transpositionTable = transpositionTable;
+        this.moveOrderer = moveOrderer;
+        this.useQuiescence = useQuiescence;
+        this.useDeltaPruning = useDeltaPruning;
+        this.quiescenceMoveBuffers = useQuiescence ? new int[MutableBoard.MAX_PLY][MutableBoard.MAX_MOVES] : null;
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        final MutableBoard position = new MutableBoard(board);
+        this.newSearch();
+        this.setLimits(NO_LIMIT, NO_LIMIT);
+        final int bestMove = this.searchRoot(position, this.searchDepth, EncodedMove.NONE);
+        if (bestMove == EncodedMove.NONE) {
+            return null;
+        }
+        return MoveFactory.createMove(board, bestMove);
+    }
+
+    void newSearch() {
+        if (this.transpositionTable != null) {
+            this.transpositionTable.newSearch();
+        }
+        this.resetSearch();
+    }
+
+    // Resets only this searcher, for callers that age a shared transposition table themselves.
+    void resetSearch() {
+        this.nodeCount = 0;
+        this.isStopped = false;
+        this.quiescenceNodeCount = 0;
+        if (this.moveOrderer != null) {
+            this.moveOrderer.newSearch();
+        }
+    }
+
+    void setLimits(final long deadline, final long nodeLimit) {
+        this.deadline = deadline;
+        this.nodeLimit = nodeLimit;
+        this.isAborted = false;
+    }
+
+    int searchRoot(final MutableBoard position, final int depth, final int preferredMove) {
+        final int[] moves = this.moveBuffers[depth];
+        final int moveCount = position.generateMoves(moves);
+        this.scoreMoves(position, moves, moveCount, preferredMove);
+        int bestMove = EncodedMove.NONE;
+        int alpha = -INFINITY;
+        for (int i = 0; i < moveCount; i++) {
+            this.selectMove(position, moves, moveCount, i);
+            if (position.makeMove(moves[i])) {
+                final int currentValue = -this.alphaBeta(position, depth - 1, -INFINITY, -alpha);
+                position.unmakeMove();
+                if (this.isAborted) {
+                    return EncodedMove.NONE;
+                }
+                if (currentValue > alpha) {
+                    alpha = currentValue;
+                    bestMove = moves[i];
+                }
+            }
+        }
+        this.bestValue = alpha;
+        return bestMove;
+    }
+
+    private void scoreMoves(final MutableBoard board, final int[] moves, final int moveCount, final int hashMove) {
+        if (this.moveOrderer != null) {
+            this.moveOrderer.scoreMoves(board, moves, moveCount, board.getPly(), hashMove);
+        } else {
+            moveToFront(moves, moveCount, hashMove);
+        }
+    }
+
+    private void selectMove(final MutableBoard board, final int[] moves, final int moveCount, final int index) {
+        if (this.moveOrderer != null) {
+            this.moveOrderer.selectMove(moves, moveCount, index, board.getPly());
+        }
+    }
+
+    private static void moveToFront(final int[] moves, final int moveCount, final int move) {
+        for (int i = 0; i < moveCount; i++) {
+            if (EncodedMove.getKey(moves[i]) == EncodedMove.getKey(move)) {
+                final int hashMove = moves[i];
+                System.arraycopy(moves, 0, moves, 1, i);
+                moves[0] = hashMove;
+                return;
+            }
+        }
+    }
+
+    int search(final MutableBoard position, final int depth, final int alpha, final int beta) {
+        return this.alphaBeta(position, depth, alpha, beta);
+    }
+
+    void stop() {
+        this.isStopped = true;
+    }
+
+    private boolean isOutOfBudget() {
+        return this.nodeCount >= this.nodeLimit ||
+               (this.nodeCount % LIMIT_CHECK_INTERVAL == 0 &&
+                (this.isStopped || (this.deadline != NO_LIMIT && System.nanoTime() - this.deadline >= 0)));
+    }
+
+    private int alphaBeta(final MutableBoard board, final int depth, int alpha, final int beta) {
+        this.nodeCount++;
+        if (this.isAborted || this.isOutOfBudget()) {
+            this.isAborted = true;
+            return 0;
+        }
+        final int originalAlpha = alpha;
+        int hashMove = EncodedMove.NONE;
+        if (this.transpositionTable != null && depth > 0) {
+            final long entry = this.transpositionTable.probe(board.getZobristKey());
+            if (entry != TranspositionTable.NO_ENTRY) {
+                hashMove = TranspositionTable.getMove(entry);
+            }
+            if (entry != TranspositionTable.NO_ENTRY && TranspositionTable.getDepth(entry) >= depth) {
+                final int score = TranspositionTable.getScore(entry);
+                final int bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.EXACT ||
+                    (bound == TranspositionTable.LOWER_BOUND && score >= beta) ||
+                    (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+        if (depth == 0 && this.useQuiescence) {
+            return this.quiescence(board, alpha, beta);
+        }
+        if (depth == 0 || !board.hasLegalMove()) {
+            return this.evaluate(board, depth);
+        }
+        final int[] moves = this.moveBuffers[depth];
+        final int moveCount = board.generateMoves(moves);
+        this.scoreMoves(board, moves, moveCount, hashMove);
+        int bestValue = -INFINITY;
+        int bestMove = EncodedMove.NONE;
+        int searchedMoves = 0;
+        for (int i = 0; i < moveCount; i++) {
+            this.selectMove(board, moves, moveCount, i);
+            if (board.makeMove(moves[i])) {
+                searchedMoves++;
+                final int currentValue = -this.alphaBeta(board, depth - 1, -beta, -alpha);
+                board.unmakeMove();
+                if (this.isAborted) {
+                    return 0;
+                }
+                if (currentValue > bestValue) {
+                    bestValue = currentValue;
+                    bestMove = moves[i];
+                    if (currentValue > alpha) {
+                        alpha = currentValue;
+                        if (alpha >= beta) {
+                            if (this.moveOrderer != null) {
+                                this.moveOrderer.recordCutoff(moves[i], board.getPly(), depth, searchedMoves);
+                            }
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        if (this.transpositionTable != null) {
+            final int bound = bestValue <= originalAlpha ? TranspositionTable.UPPER_BOUND :
+                              bestValue >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+            this.transpositionTable.store(board.getZobristKey(), depth, bestValue, bound, bestMove);
+        }
+        return bestValue;
+    }
+
+    private int quiescence(final MutableBoard board, int alpha, final int beta) {
+        this.quiescenceNodeCount++;
+        final boolean isInCheck = board.isInCheck(board.getSideToMove());
+        if ((isInCheck && !board.hasLegalMove()) || board.getPly() >= MutableBoard.MAX_PLY - 1) {
+            return this.evaluate(board, 0);
+        }
+        int bestValue = -INFINITY;
+        if (!isInCheck) {
+            bestValue = this.evaluate(board, 0);
+            if (bestValue >= beta) {
+                return bestValue;
+            }
+            if (bestValue > alpha) {
+                alpha = bestValue;
+            }
+        }
+        final int[] moves = this.quiescenceMoveBuffers[board.getPly()];
+        final int moveCount = isInCheck ? board.generateMoves(moves) : board.generateCaptures(moves);
+        this.scoreMoves(board, moves, moveCount, EncodedMove.NONE);
+        for (int i = 0; i < moveCount; i++) {
+            this.selectMove(board, moves, moveCount, i);
+            if (this.useDeltaPruning && !isInCheck &&
+                bestValue + MutableBoard.getPieceValue(EncodedMove.getCapturedPiece(moves[i])) + DELTA_MARGIN <= alpha) {
+                continue;
+            }
+            if (board.makeMove(moves[i])) {
+                this.nodeCount++;
+                final int currentValue = -this.quiescence(board, -beta, -alpha);
+                board.unmakeMove();
+                if (this.isAborted || this.isOutOfBudget()) {
+                    this.isAborted = true;
+                    return 0;
+                }
+                if (currentValue > bestValue) {
+                    bestValue = currentValue;
+                    if (currentValue > alpha) {
+                        alpha = currentValue;
+                        if (alpha >= beta) {
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return bestValue;
+    }
+
+    private int evaluate(final MutableBoard board, final int depth) {
+        final int score = this.boardEvaluator.evaluate(board, depth);
+        return board.getSideToMove() == Alliance.WHITE ? score : -score;
+    }
+
+    boolean isAborted() {
+        return this.isAborted;
+    }
+
+    int getBestValue() {
+        return this.bestValue;
+    }
+
+    public MoveOrderer getMoveOrderer() {
+        return this.moveOrderer;
+    }
+
+    public long getNodeCount() {
+        return this.nodeCount;
+    }
+
+    public long getQuiescenceNodeCount() {
+        return this.quiescenceNodeCount;
+    }
+}
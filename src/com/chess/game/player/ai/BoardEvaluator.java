@@ -1,7 +1,12 @@
 package com.chess.game.player.ai;
 
 import com.chess.game.board.Board;
+import com.chess.game.board.MutableBoard;
 
 public interface BoardEvaluator {
     int evaluate(Board board, int depth);
+
+    default int evaluate(MutableBoard board, int depth) {
+        return this.evaluate(board.toBoard(), depth);
+    }
 }
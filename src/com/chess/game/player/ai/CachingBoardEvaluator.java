@@ -0,0 +1,116 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.board.Board;
+import com.chess.game.board.MutableBoard;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class CachingBoardEvaluator implements BoardEvaluator {
+    private static final long NO_ENTRY = 0L;
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int VALID_SHIFT = 48;
+    private static final long SCORE_MASK = 0xFFFFFFFFL;
+    private static final long DEPTH_MASK = 0xFFFFL;
+
+    private final BoardEvaluator boardEvaluator;
+    private final long[] entries;
+    private final int entryMask;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public CachingBoardEvaluator(final BoardEvaluator boardEvaluator, final int sizeInKilobytes) {
+        final long entryCount = Math.max((long)sizeInKilobytes * 1024 / BYTES_PER_ENTRY, 1);
+        final int capacity = Integer.highestOneBit((int)Math.min(entryCount, Integer.MAX_VALUE / 2));
+        this.boardEvaluator = boardEvaluator;
+        this.entries = new long[capacity * 2];
+        this.entryMask = capacity - 1;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    @Override
+    public int evaluate(final Board board, final int depth) {
+        final long zobristKey = board.getZobristKey();
+        final long tag = createTag(depth);
+        final long data = this.probe(zobristKey, tag);
+        if (data != NO_ENTRY) {
+            return getScore(data);
+        }
+        final int score = this.boardEvaluator.evaluate(board, depth);
+        this.store(zobristKey, tag, score);
+        return score;
+    }
+
+    @Override
+    public int evaluate(final MutableBoard board, final int depth) {
+        final long zobristKey = board.getZobristKey();
+        final long tag = createTag(depth);
+        final long data = this.probe(zobristKey, tag);
+        if (data != NO_ENTRY) {
+            return getScore(data);
+        }
+        final int score = this.boardEvaluator.evaluate(board, depth);
+        this.store(zobristKey, tag, score);
+        return score;
+    }
+
+    // Mate scores depend on depth, so it is part of the entry.
+    private static long createTag(final int depth) {
+        return ((long)depth & DEPTH_MASK) << DEPTH_SHIFT | 1L << VALID_SHIFT;
+    }
+
+    private int entryIndex(final long zobristKey) {
+        return ((int)zobristKey & this.entryMask) * 2;
+    }
+
+    private long probe(final long zobristKey, final long tag) {
+        final int index = this.entryIndex(zobristKey);
+        final long data = this.entries[index + 1];
+        if ((this.entries[index] ^ data) == zobristKey && (data & ~SCORE_MASK) == tag) {
+            this.hits.increment();
+            return data;
+        }
+        this.misses.increment();
+        return NO_ENTRY;
+    }
+
+    private void store(final long zobristKey, final long tag, final int score) {
+        final int index = this.entryIndex(zobristKey);
+        final long data = tag | ((long)score & SCORE_MASK);
+        this.entries[index] = zobristKey ^ data;
+        this.entries[index + 1] = data;
+    }
+
+    private static int getScore(final long data) {
+        return (int)data;
+    }
+
+    public void clear() {
+        Arrays.fill(this.entries, 0L);
+        this.hits.reset();
+        this.misses.reset();
+    }
+
+    public BoardEvaluator getBoardEvaluator() {
+        return this.boardEvaluator;
+    }
+
+    public int getCapacity() {
+        return this.entries.length / 2;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public double getHitRate() {
+        final long probes = this.getHits() + this.getMisses();
+        return probes == 0 ? 0.0 : (double)this.getHits() / probes;
+    }
+}
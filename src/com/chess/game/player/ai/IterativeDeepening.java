@@ -0,0 +1,87 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.board.Board;
+import com.chess.game.board.EncodedMove;
+import com.chess.game.board.MutableBoard;
+import com.chess.game.player.Move;
+import com.chess.game.player.Move.MoveFactory;
+
+import java.util.concurrent.TimeUnit;
+
+public final class IterativeDeepening implements MoveStrategy {
+    static final int MAX_SEARCH_DEPTH = 64;
+
+    private final AlphaBeta alphaBeta;
+    private final long timeBudgetMillis;
+    private final long nodeBudget;
+    private final int maxDepth;
+    private int completedDepth;
+    private int bestValue;
+    private long nodeCount;
+
+    public IterativeDeepening(final long timeBudgetMillis) {
+        this(timeBudgetMillis, null);
+    }
+
+    public IterativeDeepening(final long timeBudgetMillis, final TranspositionTable transpositionTable) {
+        this(timeBudgetMillis, AlphaBeta.NO_LIMIT, MAX_SEARCH_DEPTH, transpositionTable);
+    }
+
+    public IterativeDeepening(final long timeBudgetMillis,
+                              final long nodeBudget,
+                              final int maxDepth,
+                              final TranspositionTable transpositionTable) {
+        this.alphaBeta = new AlphaBeta(maxDepth, transpositionTable);
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.nodeBudget = nodeBudget;
+        this.maxDepth = maxDepth;
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        final long deadline = this.timeBudgetMillis == AlphaBeta.NO_LIMIT ? AlphaBeta.NO_LIMIT :
+                              System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.timeBudgetMillis);
+        final MutableBoard position = new MutableBoard(board);
+        this.alphaBeta.newSearch();
+        this.completedDepth = 0;
+        int bestMove = EncodedMove.NONE;
+        for (int depth = 1; depth <= this.maxDepth; depth++) {
+            if (depth == 1) {
+                this.alphaBeta.setLimits(AlphaBeta.NO_LIMIT, AlphaBeta.NO_LIMIT);
+            } else {
+                this.alphaBeta.setLimits(deadline, this.nodeBudget);
+            }
+            final int iterationMove = this.alphaBeta.searchRoot(position, depth, bestMove);
+            if (this.alphaBeta.isAborted() || iterationMove == EncodedMove.NONE) {
+                break;
+            }
+            bestMove = iterationMove;
+            this.bestValue = this.alphaBeta.getBestValue();
+            this.completedDepth = depth;
+            if (deadline != AlphaBeta.NO_LIMIT && System.nanoTime() - deadline >= 0) {
+                break;
+            }
+        }
+        this.nodeCount = this.alphaBeta.getNodeCount();
+        if (bestMove == EncodedMove.NONE) {
+            return null;
+        }
+        return MoveFactory.createMove(board, bestMove);
+    }
+
+    public int getCompletedDepth() {
+        return this.completedDepth;
+    }
+
+    public int getBestValue() {
+        return this.bestValue;
+    }
+
+    public MoveOrderer getMoveOrderer() {
+        return this.alphaBeta.getMoveOrderer();
+    }
+
+    public long getNodeCount() {
+        return this.nodeCount;
+    }
+}
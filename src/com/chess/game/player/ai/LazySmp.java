@@ -0,0 +1,173 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.board.Board;
+import com.chess.game.board.EncodedMove;
+import com.chess.game.board.MutableBoard;
+import com.chess.game.player.Move;
+import com.chess.game.player.Move.MoveFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public final class LazySmp implements MoveStrategy {
+    private final AlphaBeta[] searchers;
+    private final long timeBudgetMillis;
+    private final int maxDepth;
+    private final TranspositionTable transpositionTable;
+    private final ExecutorService helperPool;
+    private final long[] nodeCounts;
+    private final long[] timeToDepth;
+    private int completedDepth;
+    private int bestValue;
+    private long elapsedNanos;
+
+    public LazySmp(final int threadCount, final long timeBudgetMillis, final TranspositionTable transpositionTable) {
+        this(threadCount, timeBudgetMillis, IterativeDeepening.MAX_SEARCH_DEPTH, transpositionTable);
+    }
+
+    public LazySmp(final int threadCount,
+                   final long timeBudgetMillis,
+                   final int maxDepth,
+                   final TranspositionTable transpositionTable) {
+        if (threadCount < 1) {
+            throw new RuntimeException("Lazy SMP needs at least one thread!");
+        }
+        this.searchers = new AlphaBeta[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            this.searchers[i] = new AlphaBeta(maxDepth, transpositionTable);
+        }
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.maxDepth = maxDepth;
+        this.transpositionTable = transpositionTable;
+        this.helperPool = threadCount > 1 ? Executors.newFixedThreadPool(threadCount - 1, runnable -> {
+            final Thread thread = new Thread(runnable, "lazy-smp-helper");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        this.nodeCounts = new long[threadCount];
+        this.timeToDepth = new long[maxDepth + 1];
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        final long startTime = System.nanoTime();
+        final long deadline = this.timeBudgetMillis == AlphaBeta.NO_LIMIT ? AlphaBeta.NO_LIMIT :
+                              startTime + TimeUnit.MILLISECONDS.toNanos(this.timeBudgetMillis);
+        if (this.transpositionTable != null) {
+            this.transpositionTable.newSearch();
+        }
+        // Board fills some fields lazily, so every position is built here before any helper thread starts.
+        final MutableBoard[] positions = new MutableBoard[this.searchers.length];
+        for (int i = 0; i < this.searchers.length; i++) {
+            this.searchers[i].resetSearch();
+            positions[i] = new MutableBoard(board);
+        }
+        Arrays.fill(this.timeToDepth, 0L);
+        final List<Future<?>> helpers = new ArrayList<>(this.searchers.length - 1);
+        for (int i = 1; i < this.searchers.length; i++) {
+            final AlphaBeta helper = this.searchers[i];
+            final MutableBoard position = positions[i];
+            final int depthOffset = i % 2;
+            helpers.add(this.helperPool.submit(() -> this.runHelper(helper, position, deadline, depthOffset)));
+        }
+        final int bestMove = this.runMain(positions[0], deadline, startTime);
+        for (int i = 1; i < this.searchers.length; i++) {
+            this.searchers[i].stop();
+        }
+        for (final Future<?> helper : helpers) {
+            try {
+                helper.get();
+            } catch (final InterruptedException | ExecutionException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        this.elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+        for (int i = 0; i < this.searchers.length; i++) {
+            this.nodeCounts[i] = this.searchers[i].getNodeCount();
+        }
+        if (bestMove == EncodedMove.NONE) {
+            return null;
+        }
+        return MoveFactory.createMove(board, bestMove);
+    }
+
+    private int runMain(final MutableBoard position, final long deadline, final long startTime) {
+        final AlphaBeta searcher = this.searchers[0];
+        this.completedDepth = 0;
+        int bestMove = EncodedMove.NONE;
+        for (int depth = 1; depth <= this.maxDepth; depth++) {
+            if (depth == 1) {
+                searcher.setLimits(AlphaBeta.NO_LIMIT, AlphaBeta.NO_LIMIT);
+            } else {
+                searcher.setLimits(deadline, AlphaBeta.NO_LIMIT);
+            }
+            final int iterationMove = searcher.searchRoot(position, depth, bestMove);
+            if (searcher.isAborted() || iterationMove == EncodedMove.NONE) {
+                break;
+            }
+            bestMove = iterationMove;
+            this.bestValue = searcher.getBestValue();
+            this.completedDepth = depth;
+            this.timeToDepth[depth] = System.nanoTime() - startTime;
+            if (deadline != AlphaBeta.NO_LIMIT && System.nanoTime() - deadline >= 0) {
+                break;
+            }
+        }
+        return bestMove;
+    }
+
+    private void runHelper(final AlphaBeta helper, final MutableBoard position, final long deadline, final int depthOffset) {
+        int bestMove = EncodedMove.NONE;
+        for (int depth = 1 + depthOffset; depth <= this.maxDepth; depth++) {
+            helper.setLimits(deadline, AlphaBeta.NO_LIMIT);
+            final int iterationMove = helper.searchRoot(position, depth, bestMove);
+            if (helper.isAborted() || iterationMove == EncodedMove.NONE) {
+                return;
+            }
+            bestMove = iterationMove;
+        }
+    }
+
+    public int getThreadCount() {
+        return this.searchers.length;
+    }
+
+    public int getCompletedDepth() {
+        return this.completedDepth;
+    }
+
+    public int getBestValue() {
+        return this.bestValue;
+    }
+
+    public long getTimeToDepthNanos(final int depth) {
+        return this.timeToDepth[depth];
+    }
+
+    public long getNodeCount() {
+        long nodeCount = 0;
+        for (final long threadNodeCount : this.nodeCounts) {
+            nodeCount += threadNodeCount;
+        }
+        return nodeCount;
+    }
+
+    public long getNodeCount(final int thread) {
+        return this.nodeCounts[thread];
+    }
+
+    public long getNodesPerSecond(final int thread) {
+        return (long)(this.nodeCounts[thread] / (this.elapsedNanos / (double)TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    public static double getTimeToDepthSpeedup(final LazySmp baseline, final LazySmp parallel, final int depth) {
+        final long parallelTime = parallel.getTimeToDepthNanos(depth);
+        return parallelTime == 0 ? 0.0 : (double)baseline.getTimeToDepthNanos(depth) / parallelTime;
+    }
+}
@@ -2,78 +2,143 @@ package com.chess.game.player.ai;
 
 import com.chess.game.Alliance;
 import com.chess.game.board.Board;
+import com.chess.game.board.EncodedMove;
+import com.chess.game.board.MutableBoard;
 import com.chess.game.player.Move;
-import com.chess.game.player.MoveStatus;
-import com.chess.game.player.MoveTransition;
+import com.chess.game.player.Move.MoveFactory;
 
 public final class MiniMax implements MoveStrategy {
     private final BoardEvaluator boardEvaluator;
     private final int searchDepth;
+    private final int[][] moveBuffers;
+    private final TranspositionTable transpositionTable;
+    private long nodeCount;
 
     public MiniMax(final int searchDepth) {
-        this.boardEvaluator = new StandardBoardEvaluator();
+        this(searchDepth, null);
+    }
+
+    public MiniMax(final int searchDepth, final TranspositionTable transpositionTable) {
+        this(searchDepth, transpositionTable, new StandardBoardEvaluator());
+    }
+
+    public MiniMax(final int searchDepth, final TranspositionTable transpositionTable, final BoardEvaluator boardEvaluator) {
+        this.boardEvaluator = boardEvaluator;
         this.searchDepth = searchDepth;
+        this.moveBuffers = new int[searchDepth + 1][MutableBoard.MAX_MOVES];
+        this.transpositionTable = transpositionTable;
     }
 
     @Override
     public Move execute(final Board board) {
-        Move bestMove = null;
+        final MutableBoard position = new MutableBoard(board);
+        this.nodeCount = 0;
+        if (this.transpositionTable != null) {
+            this.transpositionTable.newSearch();
+        }
+        final Alliance alliance = position.getSideToMove();
+        final int[] moves = this.moveBuffers[this.searchDepth];
+        final int moveCount = position.generateMoves(moves);
+        int bestMove = EncodedMove.NONE;
         int highestSeenValue = Integer.MIN_VALUE;
         int lowestSeenValue = Integer.MAX_VALUE;
-        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
-            final MoveTransition moveTransition = board.getCurrentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus() == MoveStatus.DONE) {
-                final int currentValue = board.getCurrentPlayer().getAlliance() == Alliance.WHITE ?
-                                         this.min(moveTransition.getTransitionBoard(), this.searchDepth - 1) :
-                                         this.max(moveTransition.getTransitionBoard(), this.searchDepth - 1);
-                if (board.getCurrentPlayer().getAlliance() == Alliance.WHITE && currentValue > highestSeenValue) {
+        for (int i = 0; i < moveCount; i++) {
+            if (position.makeMove(moves[i])) {
+                final int currentValue = alliance == Alliance.WHITE ?
+                                         this.min(position, this.searchDepth - 1) :
+                                         this.max(position, this.searchDepth - 1);
+                position.unmakeMove();
+                if (alliance == Alliance.WHITE && currentValue > highestSeenValue) {
                     highestSeenValue = currentValue;
-                    bestMove = move;
-                } else if (board.getCurrentPlayer().getAlliance() == Alliance.BLACK && currentValue < lowestSeenValue) {
+                    bestMove = moves[i];
+                } else if (alliance == Alliance.BLACK && currentValue < lowestSeenValue) {
                     lowestSeenValue = currentValue;
-                    bestMove = move;
+                    bestMove = moves[i];
                 }
             }
         }
-        return bestMove;
+        if (bestMove == EncodedMove.NONE) {
+            return null;
+        }
+        return MoveFactory.createMove(board, bestMove);
     }
 
-    public int min(final Board board, final int depth) {
+    public int min(final MutableBoard board, final int depth) {
+        this.nodeCount++;
+        final long entry = this.probe(board, depth);
+        if (entry != TranspositionTable.NO_ENTRY) {
+            return TranspositionTable.getScore(entry);
+        }
         if (depth == 0 || isEndGameScenario(board)) {
             return this.boardEvaluator.evaluate(board, depth);
         }
+        final int[] moves = this.moveBuffers[depth];
+        final int moveCount = board.generateMoves(moves);
         int lowestSeenValue = Integer.MAX_VALUE;
-        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
-            final MoveTransition moveTransition = board.getCurrentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus() == MoveStatus.DONE) {
-                final int currentValue = this.max(moveTransition.getTransitionBoard(), depth - 1);
+        int bestMove = EncodedMove.NONE;
+        for (int i = 0; i < moveCount; i++) {
+            if (board.makeMove(moves[i])) {
+                final int currentValue = this.max(board, depth - 1);
+                board.unmakeMove();
                 if (currentValue < lowestSeenValue) {
                     lowestSeenValue = currentValue;
+                    bestMove = moves[i];
                 }
             }
         }
+        this.store(board, depth, lowestSeenValue, bestMove);
         return lowestSeenValue;
     }
 
-    private static boolean isEndGameScenario(final Board board) {
-        return board.getCurrentPlayer().isInCheckMate() ||
-               board.getCurrentPlayer().isInStaleMate();
+    private long probe(final MutableBoard board, final int depth) {
+        if (this.transpositionTable == null || depth == 0) {
+            return TranspositionTable.NO_ENTRY;
+        }
+        final long entry = this.transpositionTable.probe(board.getZobristKey());
+        if (entry != TranspositionTable.NO_ENTRY && TranspositionTable.getDepth(entry) >= depth) {
+            return entry;
+        }
+        return TranspositionTable.NO_ENTRY;
     }
 
-    public int max(final Board board, final int depth) {
+    private void store(final MutableBoard board, final int depth, final int value, final int bestMove) {
+        if (this.transpositionTable != null) {
+            this.transpositionTable.store(board.getZobristKey(), depth, value, TranspositionTable.EXACT, bestMove);
+        }
+    }
+
+    private static boolean isEndGameScenario(final MutableBoard board) {
+        return !board.hasLegalMove();
+    }
+
+    public int max(final MutableBoard board, final int depth) {
+        this.nodeCount++;
+        final long entry = this.probe(board, depth);
+        if (entry != TranspositionTable.NO_ENTRY) {
+            return TranspositionTable.getScore(entry);
+        }
         if (depth == 0 || isEndGameScenario(board)) {
             return this.boardEvaluator.evaluate(board, depth);
         }
+        final int[] moves = this.moveBuffers[depth];
+        final int moveCount = board.generateMoves(moves);
         int highestSeenValue = Integer.MIN_VALUE;
-        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
-            final MoveTransition moveTransition = board.getCurrentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus() == MoveStatus.DONE) {
-                final int currentValue = this.min(moveTransition.getTransitionBoard(), depth - 1);
+        int bestMove = EncodedMove.NONE;
+        for (int i = 0; i < moveCount; i++) {
+            if (board.makeMove(moves[i])) {
+                final int currentValue = this.min(board, depth - 1);
+                board.unmakeMove();
                 if (currentValue > highestSeenValue) {
                     highestSeenValue = currentValue;
+                    bestMove = moves[i];
                 }
             }
         }
+        this.store(board, depth, highestSeenValue, bestMove);
         return highestSeenValue;
     }
+
+    public long getNodeCount() {
+        return this.nodeCount;
+    }
 }
@@ -0,0 +1,121 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.board.BoardUtils;
+import com.chess.game.board.EncodedMove;
+import com.chess.game.board.MutableBoard;
+
+public final class MoveOrderer {
+    private static final int HASH_MOVE_SCORE = Integer.MAX_VALUE;
+    private static final int CAPTURE_SCORE = 1 << 30;
+    private static final int KILLER_SCORE = 1 << 29;
+    private static final int VICTIM_WEIGHT = 1024;
+    private static final int HISTORY_LIMIT = KILLER_SCORE - 1;
+    private static final int KILLERS_PER_PLY = 2;
+
+    private final int[][] scores;
+    private final int[][] killerMoves;
+    private final int[][] history;
+    private long cutoffs;
+    private long firstMoveCutoffs;
+
+    public MoveOrderer() {
+        this.scores = new int[MutableBoard.MAX_PLY][MutableBoard.MAX_MOVES];
+        this.killerMoves = new int[MutableBoard.MAX_PLY][KILLERS_PER_PLY];
+        this.history = new int[BoardUtils.NUMBER_OF_BOARD_TILES][BoardUtils.NUMBER_OF_BOARD_TILES];
+        this.newSearch();
+    }
+
+    public void newSearch() {
+        for (final int[] killers : this.killerMoves) {
+            killers[0] = EncodedMove.NONE;
+            killers[1] = EncodedMove.NONE;
+        }
+        this.ageHistory();
+        this.cutoffs = 0;
+        this.firstMoveCutoffs = 0;
+    }
+
+    public void scoreMoves(final MutableBoard board, final int[] moves, final int moveCount, final int ply, final int hashMove) {
+        final int[] moveScores = this.scores[ply];
+        final int[] killers = this.killerMoves[ply];
+        final int hashMoveKey = EncodedMove.getKey(hashMove);
+        for (int i = 0; i < moveCount; i++) {
+            final int move = moves[i];
+            if (EncodedMove.getKey(move) == hashMoveKey) {
+                moveScores[i] = HASH_MOVE_SCORE;
+            } else if (EncodedMove.isAttack(move)) {
+                moveScores[i] = CAPTURE_SCORE + mvvLva(move);
+            } else if (move == killers[0]) {
+                moveScores[i] = KILLER_SCORE + 1;
+            } else if (move == killers[1]) {
+                moveScores[i] = KILLER_SCORE;
+            } else {
+                moveScores[i] = this.history[EncodedMove.getSource(move)][EncodedMove.getDestination(move)];
+            }
+        }
+    }
+
+    public void selectMove(final int[] moves, final int moveCount, final int index, final int ply) {
+        final int[] moveScores = this.scores[ply];
+        int bestIndex = index;
+        for (int i = index + 1; i < moveCount; i++) {
+            if (moveScores[i] > moveScores[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+        if (bestIndex != index) {
+            final int move = moves[bestIndex];
+            moves[bestIndex] = moves[index];
+            moves[index] = move;
+            final int score = moveScores[bestIndex];
+            moveScores[bestIndex] = moveScores[index];
+            moveScores[index] = score;
+        }
+    }
+
+    public void recordCutoff(final int move, final int ply, final int depth, final int searchedMoves) {
+        this.cutoffs++;
+        if (searchedMoves == 1) {
+            this.firstMoveCutoffs++;
+        }
+        if (EncodedMove.isAttack(move)) {
+            return;
+        }
+        final int[] killers = this.killerMoves[ply];
+        if (killers[0] != move) {
+            killers[1] = killers[0];
+            killers[0] = move;
+        }
+        final int[] fromHistory = this.history[EncodedMove.getSource(move)];
+        final int destination = EncodedMove.getDestination(move);
+        fromHistory[destination] += depth * depth;
+        if (fromHistory[destination] > HISTORY_LIMIT) {
+            this.ageHistory();
+        }
+    }
+
+    private static int mvvLva(final int move) {
+        return MutableBoard.getPieceValue(EncodedMove.getCapturedPiece(move)) * VICTIM_WEIGHT -
+               MutableBoard.getPieceValue(EncodedMove.getMovedPiece(move));
+    }
+
+    private void ageHistory() {
+        for (final int[] fromHistory : this.history) {
+            for (int i = 0; i < fromHistory.length; i++) {
+                fromHistory[i] /= 2;
+            }
+        }
+    }
+
+    public long getCutoffs() {
+        return this.cutoffs;
+    }
+
+    public long getFirstMoveCutoffs() {
+        return this.firstMoveCutoffs;
+    }
+
+    public double getFirstMoveCutoffRate() {
+        return this.cutoffs == 0 ? 0.0 : (double)this.firstMoveCutoffs / this.cutoffs;
+    }
+}
@@ -0,0 +1,123 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.board.Board;
+import com.chess.game.board.BoardUtils;
+import com.chess.game.board.PolyglotKeys;
+import com.chess.game.player.Move;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class OpeningBook implements MoveStrategy {
+    private static final int ENTRY_SIZE = 16;
+    private static final int MOVE_OFFSET = 8;
+    private static final int WEIGHT_OFFSET = 10;
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int PROMOTION_SHIFT = 12;
+    private static final int PROMOTION_MASK = 0x7;
+    private static final int UNSIGNED_SHORT_MASK = 0xFFFF;
+
+    private final MoveStrategy moveStrategy;
+    private final MappedByteBuffer entries;
+    private final int entryCount;
+
+    public OpeningBook(final Path bookPath, final MoveStrategy moveStrategy) {
+        try (final FileChannel channel = FileChannel.open(bookPath, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size % ENTRY_SIZE != 0 || size > Integer.MAX_VALUE) {
+                throw new RuntimeException("Invalid opening book " + bookPath + "!");
+            }
+            // The mapping stays valid after the channel is closed.
+            this.entries = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            this.entryCount = (int)(size / ENTRY_SIZE);
+        } catch (final IOException e) {
+            throw new RuntimeException("Can not open opening book " + bookPath + "!", e);
+        }
+        this.moveStrategy = moveStrategy;
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        final Move bookMove = this.probe(board);
+        return bookMove != null ? bookMove : this.moveStrategy.execute(board);
+    }
+
+    // Weighted choice in a single pass, skipping entries that do not map to a legal move on this board.
+    public Move probe(final Board board) {
+        final long key = PolyglotKeys.calculateKey(board);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        Move bookMove = null;
+        int totalWeight = 0;
+        for (int i = this.findFirstEntry(key); i < this.entryCount && this.getKey(i) == key; i++) {
+            final int weight = this.getWeight(i);
+            final Move move = weight > 0 ? this.findMove(board, this.getMove(i)) : null;
+            if (move != null) {
+                totalWeight += weight;
+                if (random.nextInt(totalWeight) < weight) {
+                    bookMove = move;
+                }
+            }
+        }
+        return bookMove;
+    }
+
+    public MoveStrategy getMoveStrategy() {
+        return this.moveStrategy;
+    }
+
+    public int getEntryCount() {
+        return this.entryCount;
+    }
+
+    // Polyglot books are sorted by key as unsigned numbers.
+    private int findFirstEntry(final long key) {
+        int low = 0;
+        int high = this.entryCount;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (Long.compareUnsigned(this.getKey(middle), key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long getKey(final int index) {
+        return this.entries.getLong(index * ENTRY_SIZE);
+    }
+
+    private int getMove(final int index) {
+        return this.entries.getShort(index * ENTRY_SIZE + MOVE_OFFSET) & UNSIGNED_SHORT_MASK;
+    }
+
+    private int getWeight(final int index) {
+        return this.entries.getShort(index * ENTRY_SIZE + WEIGHT_OFFSET) & UNSIGNED_SHORT_MASK;
+    }
+
+    private Move findMove(final Board board, final int bookMove) {
+        if ((bookMove >>> PROMOTION_SHIFT & PROMOTION_MASK) != 0) {
+            return null;
+        }
+        final int destination = toTilePosition(bookMove & SQUARE_MASK);
+        final int source = toTilePosition(bookMove >>> SQUARE_BITS & SQUARE_MASK);
+        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+            if (move.getSourceDestination() == source && move.getDestinationDestination() == destination) {
+                return move;
+            }
+        }
+        return null;
+    }
+
+    // Polyglot numbers squares from a1 upwards, the board numbers them from a8 downwards.
+    private static int toTilePosition(final int bookSquare) {
+        return (BoardUtils.BOARD_ROWS - 1 - bookSquare / BoardUtils.BOARD_COLUMNS) * BoardUtils.BOARD_COLUMNS +
+               bookSquare % BoardUtils.BOARD_COLUMNS;
+    }
+}
@@ -0,0 +1,137 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.board.Board;
+import com.chess.game.board.EncodedMove;
+import com.chess.game.board.MutableBoard;
+import com.chess.game.player.Move;
+import com.chess.game.player.Move.MoveFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ParallelAlphaBeta implements MoveStrategy {
+    private final int searchDepth;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<AlphaBeta> searchers;
+    private final LongAdder nodeCount;
+    private int bestValue;
+
+    public ParallelAlphaBeta(final int searchDepth) {
+        this(searchDepth, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelAlphaBeta(final int searchDepth, final int threadCount) {
+        this.searchDepth = searchDepth;
+        this.pool = new ForkJoinPool(threadCount);
+        this.searchers = ThreadLocal.withInitial(() -> new AlphaBeta(searchDepth, null, new MoveOrderer(), true, false));
+        this.nodeCount = new LongAdder();
+    }
+
+    @Override
+    public Move execute(final Board board) {
+        this.nodeCount.reset();
+        final int[] rootMoves = this.createRootMoves(new MutableBoard(board));
+        if (rootMoves.length == 0) {
+            return null;
+        }
+        final AtomicInteger alpha = new AtomicInteger(-AlphaBeta.INFINITY);
+        final int[] scores = new int[rootMoves.length];
+        new RootMoveTask(this, board, rootMoves, 0, alpha, scores).compute();
+        final List<RootMoveTask> tasks = new ArrayList<>(rootMoves.length - 1);
+        for (int i = 1; i < rootMoves.length; i++) {
+            tasks.add(new RootMoveTask(this, board, rootMoves, i, alpha, scores));
+        }
+        this.pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(tasks);
+            }
+        });
+        int bestIndex = 0;
+        for (int i = 1; i < scores.length; i++) {
+            if (scores[i] > scores[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+        this.bestValue = scores[bestIndex];
+        return MoveFactory.createMove(board, rootMoves[bestIndex]);
+    }
+
+    private int[] createRootMoves(final MutableBoard position) {
+        final int[] moves = new int[MutableBoard.MAX_MOVES];
+        final int moveCount = position.generateMoves(moves);
+        final MoveOrderer moveOrderer = new MoveOrderer();
+        moveOrderer.scoreMoves(position, moves, moveCount, position.getPly(), EncodedMove.NONE);
+        int legalMoveCount = 0;
+        for (int i = 0; i < moveCount; i++) {
+            moveOrderer.selectMove(moves, moveCount, i, position.getPly());
+            if (position.makeMove(moves[i])) {
+                position.unmakeMove();
+                moves[legalMoveCount++] = moves[i];
+            }
+        }
+        final int[] rootMoves = new int[legalMoveCount];
+        System.arraycopy(moves, 0, rootMoves, 0, legalMoveCount);
+        return rootMoves;
+    }
+
+    private int searchRootMove(final Board board, final int move, final int alpha) {
+        final AlphaBeta searcher = this.searchers.get();
+        searcher.newSearch();
+        searcher.setLimits(AlphaBeta.NO_LIMIT, AlphaBeta.NO_LIMIT);
+        final MutableBoard position = new MutableBoard(board);
+        position.makeMove(move);
+        final int beta = alpha == -AlphaBeta.INFINITY ? AlphaBeta.INFINITY : -(alpha - 1);
+        final int score = -searcher.search(position, this.searchDepth - 1, -AlphaBeta.INFINITY, beta);
+        this.nodeCount.add(searcher.getNodeCount());
+        return score;
+    }
+
+    public int getBestValue() {
+        return this.bestValue;
+    }
+
+    public long getNodeCount() {
+        return this.nodeCount.sum();
+    }
+
+    public int getThreadCount() {
+        return this.pool.getParallelism();
+    }
+
+    private static final class RootMoveTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ParallelAlphaBeta strategy;
+        private final Board board;
+        private final int[] rootMoves;
+        private final int index;
+        private final AtomicInteger alpha;
+        private final int[] scores;
+
+        private RootMoveTask(final ParallelAlphaBeta strategy,
+                             final Board board,
+                             final int[] rootMoves,
+                             final int index,
+                             final AtomicInteger alpha,
+                             final int[] scores) {
+            this.strategy = strategy;
+            this.board = board;
+            this.rootMoves = rootMoves;
+            this.index = index;
+            this.alpha = alpha;
+            this.scores = scores;
+        }
+
+        @Override
+        protected void compute() {
+            final int score = this.strategy.searchRootMove(this.board, this.rootMoves[this.index], this.alpha.get());
+            this.scores[this.index] = score;
+            this.alpha.accumulateAndGet(score, Math::max);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.Alliance;
+import com.chess.game.board.BitBoards;
+import com.chess.game.board.Board;
+import com.chess.game.board.BoardUtils;
+import com.chess.game.board.MutableBoard;
+import com.chess.game.pieces.PieceType;
+
+public final class PawnEvaluator {
+    private static final int DOUBLED_PAWN_PENALTY = 15;
+    private static final int ISOLATED_PAWN_PENALTY = 12;
+    private static final int PAWN_SHIELD_BONUS = 10;
+    private static final int[] PASSED_PAWN_BONUS = {0, 5, 10, 20, 35, 50, 0};
+    private static final long FIRST_FILE = 0x0101010101010101L;
+
+    private static final long[] FILES = createFiles();
+    private static final long[] ADJACENT_FILES = createAdjacentFiles();
+    private static final long[][] PASSED_PAWN_MASKS = createPassedPawnMasks();
+
+    private final PawnHashTable pawnHashTable;
+
+    public PawnEvaluator(final PawnHashTable pawnHashTable) {
+        this.pawnHashTable = pawnHashTable;
+    }
+
+    private static long[] createFiles() {
+        final long[] files = new long[BoardUtils.BOARD_COLUMNS];
+        for (int i = 0; i < BoardUtils.BOARD_COLUMNS; i++) {
+            files[i] = FIRST_FILE << i;
+        }
+        return files;
+    }
+
+    private static long[] createAdjacentFiles() {
+        final long[] adjacentFiles = new long[BoardUtils.BOARD_COLUMNS];
+        for (int i = 0; i < BoardUtils.BOARD_COLUMNS; i++) {
+            adjacentFiles[i] = (i > 0 ? FILES[i - 1] : BitBoards.EMPTY) | (i < BoardUtils.BOARD_COLUMNS - 1 ? FILES[i + 1] : BitBoards.EMPTY);
+        }
+        return adjacentFiles;
+    }
+
+    private static long[][] createPassedPawnMasks() {
+        final long[][] passedPawnMasks = new long[Alliance.values().length][BoardUtils.NUMBER_OF_BOARD_TILES];
+        for (final Alliance alliance : Alliance.values()) {
+            for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+                final long span = FILES[BoardUtils.getColumn(i)] | ADJACENT_FILES[BoardUtils.getColumn(i)];
+                for (int row = BoardUtils.getRow(i) + alliance.getDirection(); row >= 0 && row < BoardUtils.BOARD_ROWS; row += alliance.getDirection()) {
+                    passedPawnMasks[alliance.ordinal()][i] |= span & (0xFFL << (row * BoardUtils.BOARD_COLUMNS));
+                }
+            }
+        }
+        return passedPawnMasks;
+    }
+
+    public int evaluate(final Board board) {
+        final long whitePawns = board.getPieceBitBoard(PieceType.PAWN, Alliance.WHITE);
+        final long blackPawns = board.getPieceBitBoard(PieceType.PAWN, Alliance.BLACK);
+        return this.getPawnStructure(board.getPawnZobristKey(), whitePawns, blackPawns).getScore() +
+               scoreShield(Alliance.WHITE, whitePawns, BitBoards.firstSquare(board.getPieceBitBoard(PieceType.KING, Alliance.WHITE))) -
+               scoreShield(Alliance.BLACK, blackPawns, BitBoards.firstSquare(board.getPieceBitBoard(PieceType.KING, Alliance.BLACK)));
+    }
+
+    public int evaluate(final MutableBoard board) {
+        final long whitePawns = board.getPieceBitBoard(PieceType.PAWN, Alliance.WHITE);
+        final long blackPawns = board.getPieceBitBoard(PieceType.PAWN, Alliance.BLACK);
+        return this.getPawnStructure(board.getPawnZobristKey(), whitePawns, blackPawns).getScore() +
+               scoreShield(Alliance.WHITE, whitePawns, BitBoards.firstSquare(board.getPieceBitBoard(PieceType.KING, Alliance.WHITE))) -
+               scoreShield(Alliance.BLACK, blackPawns, BitBoards.firstSquare(board.getPieceBitBoard(PieceType.KING, Alliance.BLACK)));
+    }
+
+    public PawnStructure getPawnStructure(final Board board) {
+        return this.getPawnStructure(board.getPawnZobristKey(),
+                                     board.getPieceBitBoard(PieceType.PAWN, Alliance.WHITE),
+                                     board.getPieceBitBoard(PieceType.PAWN, Alliance.BLACK));
+    }
+
+    public PawnStructure getPawnStructure(final MutableBoard board) {
+        return this.getPawnStructure(board.getPawnZobristKey(),
+                                     board.getPieceBitBoard(PieceType.PAWN, Alliance.WHITE),
+                                     board.getPieceBitBoard(PieceType.PAWN, Alliance.BLACK));
+    }
+
+    // The king shield depends on the king square, so only the pawn-only terms are cached.
+    private PawnStructure getPawnStructure(final long pawnKey, final long whitePawns, final long blackPawns) {
+        PawnStructure pawnStructure = this.pawnHashTable != null ? this.pawnHashTable.probe(pawnKey) : null;
+        if (pawnStructure == null) {
+            final long whitePassedPawns = calculatePassedPawns(Alliance.WHITE, whitePawns, blackPawns);
+            final long blackPassedPawns = calculatePassedPawns(Alliance.BLACK, blackPawns, whitePawns);
+            pawnStructure = new PawnStructure(scoreStructure(Alliance.WHITE, whitePawns, whitePassedPawns) -
+                                              scoreStructure(Alliance.BLACK, blackPawns, blackPassedPawns),
+                                              whitePassedPawns,
+                                              blackPassedPawns);
+            if (this.pawnHashTable != null) {
+                this.pawnHashTable.store(pawnKey, pawnStructure);
+            }
+        }
+        return pawnStructure;
+    }
+
+    private static long calculatePassedPawns(final Alliance alliance, final long pawns, final long opponentPawns) {
+        long passedPawns = BitBoards.EMPTY;
+        for (long squares = pawns; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            final int tilePosition = BitBoards.firstSquare(squares);
+            if ((PASSED_PAWN_MASKS[alliance.ordinal()][tilePosition] & opponentPawns) == BitBoards.EMPTY) {
+                passedPawns |= BitBoards.squareMask(tilePosition);
+            }
+        }
+        return passedPawns;
+    }
+
+    private static int scoreStructure(final Alliance alliance, final long pawns, final long passedPawns) {
+        int score = 0;
+        for (int i = 0; i < BoardUtils.BOARD_COLUMNS; i++) {
+            final int filePawns = BitBoards.countSquares(pawns & FILES[i]);
+            if (filePawns > 1) {
+                score -= (filePawns - 1) * DOUBLED_PAWN_PENALTY;
+            }
+            if (filePawns > 0 && (pawns & ADJACENT_FILES[i]) == BitBoards.EMPTY) {
+                score -= filePawns * ISOLATED_PAWN_PENALTY;
+            }
+        }
+        final int startRow = alliance == Alliance.WHITE ? BoardUtils.BOARD_ROWS - 2 : 1;
+        for (long squares = passedPawns; squares != BitBoards.EMPTY; squares = BitBoards.withoutFirstSquare(squares)) {
+            score += PASSED_PAWN_BONUS[Math.max(0, (BoardUtils.getRow(BitBoards.firstSquare(squares)) - startRow) * alliance.getDirection())];
+        }
+        return score;
+    }
+
+    private static int scoreShield(final Alliance alliance, final long pawns, final int kingPosition) {
+        final int pushSquare = BoardUtils.getPawnPush(alliance, kingPosition);
+        final long shield = BitBoards.pawnAttacks(alliance, kingPosition) |
+                            (pushSquare != BoardUtils.NO_TILE ? BitBoards.squareMask(pushSquare) : BitBoards.EMPTY);
+        return BitBoards.countSquares(shield & pawns) * PAWN_SHIELD_BONUS;
+    }
+}
@@ -0,0 +1,81 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.Alliance;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class PawnHashTable {
+    private static final int SCORE = 1;
+    private static final int WHITE_PASSED_PAWNS = 2;
+    private static final int BLACK_PASSED_PAWNS = 3;
+    private static final int LONGS_PER_ENTRY = 4;
+    private static final int BYTES_PER_ENTRY = LONGS_PER_ENTRY * Long.BYTES;
+
+    private final long[] entries;
+    private final int entryMask;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public PawnHashTable(final int sizeInKilobytes) {
+        final long entryCount = Math.max((long)sizeInKilobytes * 1024 / BYTES_PER_ENTRY, 1);
+        final int capacity = Integer.highestOneBit((int)Math.min(entryCount, Integer.MAX_VALUE / LONGS_PER_ENTRY));
+        this.entries = new long[capacity * LONGS_PER_ENTRY];
+        this.entryMask = capacity - 1;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    // The check word is the key XORed with the data, so an entry torn by another thread fails verification.
+    public PawnStructure probe(final long pawnKey) {
+        final int index = this.entryIndex(pawnKey);
+        final long check = this.entries[index];
+        final long score = this.entries[index + SCORE];
+        final long whitePassedPawns = this.entries[index + WHITE_PASSED_PAWNS];
+        final long blackPassedPawns = this.entries[index + BLACK_PASSED_PAWNS];
+        if (check != 0L && (check ^ score ^ whitePassedPawns ^ blackPassedPawns) == pawnKey) {
+            this.hits.increment();
+            return new PawnStructure((int)score, whitePassedPawns, blackPassedPawns);
+        }
+        this.misses.increment();
+        return null;
+    }
+
+    public void store(final long pawnKey, final PawnStructure pawnStructure) {
+        final int index = this.entryIndex(pawnKey);
+        final long score = pawnStructure.getScore();
+        final long whitePassedPawns = pawnStructure.getPassedPawns(Alliance.WHITE);
+        final long blackPassedPawns = pawnStructure.getPassedPawns(Alliance.BLACK);
+        this.entries[index + SCORE] = score;
+        this.entries[index + WHITE_PASSED_PAWNS] = whitePassedPawns;
+        this.entries[index + BLACK_PASSED_PAWNS] = blackPassedPawns;
+        this.entries[index] = pawnKey ^ score ^ whitePassedPawns ^ blackPassedPawns;
+    }
+
+    private int entryIndex(final long pawnKey) {
+        return ((int)pawnKey & this.entryMask) * LONGS_PER_ENTRY;
+    }
+
+    public void clear() {
+        Arrays.fill(this.entries, 0L);
+        this.hits.reset();
+        this.misses.reset();
+    }
+
+    public int getCapacity() {
+        return this.entries.length / LONGS_PER_ENTRY;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public double getHitRate() {
+        final long probes = this.getHits() + this.getMisses();
+        return probes == 0 ? 0.0 : (double)this.getHits() / probes;
+    }
+}
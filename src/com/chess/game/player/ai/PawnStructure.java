@@ -0,0 +1,23 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.Alliance;
+
+public final class PawnStructure {
+    private final int score;
+    private final long whitePassedPawns;
+    private final long blackPassedPawns;
+
+    PawnStructure(final int score, final long whitePassedPawns, final long blackPassedPawns) {
+        this.score = score;
+        this.whitePassedPawns = whitePassedPawns;
+        this.blackPassedPawns = blackPassedPawns;
+    }
+
+    public int getScore() {
+        return this.score;
+    }
+
+    public long getPassedPawns(final Alliance alliance) {
+        return alliance == Alliance.WHITE ? this.whitePassedPawns : this.blackPassedPawns;
+    }
+}
@@ -1,7 +1,8 @@
 package com.chess.game.player.ai;
 
+import com.chess.game.Alliance;
 import com.chess.game.board.Board;
-import com.chess.game.pieces.Piece;
+import com.chess.game.board.MutableBoard;
 import com.chess.game.player.Player;
 
 public final class StandardBoardEvaluator implements BoardEvaluator {
@@ -15,8 +16,22 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
         return this.scorePlayer(board, board.getWhitePlayer(), depth) - this.scorePlayer(board, board.getBlackPlayer(), depth);
     }
 
+    @Override
+    public int evaluate(final MutableBoard board, final int depth) {
+        return this.scorePlayer(board, Alliance.WHITE, Alliance.BLACK, depth) - this.scorePlayer(board, Alliance.BLACK, Alliance.WHITE, depth);
+    }
+
+    private int scorePlayer(final MutableBoard board, final Alliance alliance, final Alliance opponentAlliance, final int depth) {
+        final boolean isOpponentInCheck = board.isInCheck(opponentAlliance);
+        return board.getMaterial(alliance) +
+                board.countMoves(alliance) +
+                (isOpponentInCheck ? CHECK_BONUS : 0) +
+                (isOpponentInCheck && board.getSideToMove() == opponentAlliance && !board.hasLegalMove() ? CHECK_MATE_BONUS * depthBonus(depth) : 0) +
+                (board.isCastled(alliance) ? CASTLE_BONUS : 0);
+    }
+
     private int scorePlayer(final Board board, final Player player, final int depth) {
-        return pieceValue(player) +
+        return pieceValue(board, player) +
                 mubility(player) +
                 check(player) +
                 checkMate(player, depth) +
@@ -43,11 +58,7 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
         return player.getOpponent().isInCheck() ? CHECK_BONUS : 0;
     }
 
-    private static int pieceValue(final Player player) {
-        int pieceValueScore = 0;
-        for (final Piece piece : player.getActivePieces()) {
-            pieceValueScore += piece.getPieceValue();
-        }
-        return pieceValueScore;
+    private static int pieceValue(final Board board, final Player player) {
+        return board.getMaterial(player.getAlliance());
     }
 }
@@ -0,0 +1,59 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.Alliance;
+import com.chess.game.board.BitBoards;
+import com.chess.game.board.Board;
+import com.chess.game.board.MutableBoard;
+import com.chess.game.board.PieceSquareTables;
+import com.chess.game.pieces.PieceType;
+
+import java.util.function.ToLongBiFunction;
+
+public final class TaperedBoardEvaluator implements BoardEvaluator {
+    private static final int MINOR_PIECE_PHASE = 1;
+    private static final int ROOK_PHASE = 2;
+    private static final int QUEEN_PHASE = 4;
+    private static final int MAX_PHASE = 24;
+
+    private final StandardBoardEvaluator standardBoardEvaluator;
+    private final PawnEvaluator pawnEvaluator;
+
+    public TaperedBoardEvaluator() {
+        this.standardBoardEvaluator = new StandardBoardEvaluator();
+        this.pawnEvaluator = null;
+    }
+
+    public TaperedBoardEvaluator(final PawnHashTable pawnHashTable) {
+        this.standardBoardEvaluator = new StandardBoardEvaluator();
+        this.pawnEvaluator = new PawnEvaluator(pawnHashTable);
+    }
+
+    @Override
+    public int evaluate(final Board board, final int depth) {
+        return this.standardBoardEvaluator.evaluate(board, depth) +
+               taper(board.getPositionalScore(Alliance.WHITE) - board.getPositionalScore(Alliance.BLACK), calculatePhase(board::getPieceBitBoard)) +
+               (this.pawnEvaluator != null ? this.pawnEvaluator.evaluate(board) : 0);
+    }
+
+    @Override
+    public int evaluate(final MutableBoard board, final int depth) {
+        return this.standardBoardEvaluator.evaluate(board, depth) +
+               taper(board.getPositionalScore(Alliance.WHITE) - board.getPositionalScore(Alliance.BLACK), calculatePhase(board::getPieceBitBoard)) +
+               (this.pawnEvaluator != null ? this.pawnEvaluator.evaluate(board) : 0);
+    }
+
+    private static int calculatePhase(final ToLongBiFunction<PieceType, Alliance> pieceBitBoards) {
+        int phase = 0;
+        for (final Alliance alliance : Alliance.values()) {
+            phase += BitBoards.countSquares(pieceBitBoards.applyAsLong(PieceType.KNIGHT, alliance) | pieceBitBoards.applyAsLong(PieceType.BISHOP, alliance)) * MINOR_PIECE_PHASE +
+                     BitBoards.countSquares(pieceBitBoards.applyAsLong(PieceType.ROOK, alliance)) * ROOK_PHASE +
+                     BitBoards.countSquares(pieceBitBoards.applyAsLong(PieceType.QUEEN, alliance)) * QUEEN_PHASE;
+        }
+        return Math.min(MAX_PHASE, phase);
+    }
+
+    private static int taper(final int positionalScore, final int phase) {
+        return (PieceSquareTables.getMiddlegameScore(positionalScore) * phase +
+                PieceSquareTables.getEndgameScore(positionalScore) * (MAX_PHASE - phase)) / MAX_PHASE;
+    }
+}
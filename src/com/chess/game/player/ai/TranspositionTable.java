@@ -0,0 +1,163 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.board.EncodedMove;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class TranspositionTable {
+    public static final long NO_ENTRY = 0L;
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int ENTRIES_PER_BUCKET = 2;
+    private static final int MOVE_SHIFT = 32;
+    private static final int DEPTH_SHIFT = 48;
+    private static final int BOUND_SHIFT = 56;
+    private static final int AGE_SHIFT = 58;
+    private static final long MOVE_MASK = 0xFFFFL;
+    private static final long DEPTH_MASK = 0xFFL;
+    private static final long BOUND_MASK = 0x3L;
+    private static final long AGE_MASK = 0x3FL;
+
+    private final long[] entries;
+    private final int bucketMask;
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder collisions;
+    private final LongAdder stores;
+    private volatile int age;
+
+    public TranspositionTable(final int sizeInMegabytes) {
+        final long entryCount = Math.max((long)sizeInMegabytes * 1024 * 1024 / BYTES_PER_ENTRY, ENTRIES_PER_BUCKET);
+        final int bucketCount = Integer.highestOneBit((int)Math.min(entryCount / ENTRIES_PER_BUCKET, Integer.MAX_VALUE / (2 * ENTRIES_PER_BUCKET)));
+        this.entries = new long[bucketCount * ENTRIES_PER_BUCKET * 2];
+        this.bucketMask = bucketCount - 1;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.collisions = new LongAdder();
+        this.stores = new LongAdder();
+        this.age = 0;
+    }
+
+    public long probe(final long zobristKey) {
+        final int bucket = this.bucketIndex(zobristKey);
+        boolean isBucketEmpty = true;
+        for (int i = bucket; i < bucket + 2 * ENTRIES_PER_BUCKET; i += 2) {
+            final long data = this.entries[i + 1];
+            if (data != NO_ENTRY) {
+                if ((this.entries[i] ^ data) == zobristKey) {
+                    this.hits.increment();
+                    return data;
+                }
+                isBucketEmpty = false;
+            }
+        }
+        if (isBucketEmpty) {
+            this.misses.increment();
+        } else {
+            this.collisions.increment();
+        }
+        return NO_ENTRY;
+    }
+
+    public void store(final long zobristKey, final int depth, final int score, final int bound, final int move) {
+        final int bucket = this.bucketIndex(zobristKey);
+        final int currentAge = this.age;
+        int replaceIndex = bucket;
+        int replaceWorth = Integer.MAX_VALUE;
+        for (int i = bucket; i < bucket + 2 * ENTRIES_PER_BUCKET; i += 2) {
+            final long data = this.entries[i + 1];
+            if (data == NO_ENTRY || (this.entries[i] ^ data) == zobristKey) {
+                if (data != NO_ENTRY && getDepth(data) > depth && getAge(data) == currentAge && bound != EXACT) {
+                    return;
+                }
+                replaceIndex = i;
+                break;
+            }
+            final int worth = getAge(data) == currentAge ? getDepth(data) + (int)DEPTH_MASK : getDepth(data);
+            if (worth < replaceWorth) {
+                replaceWorth = worth;
+                replaceIndex = i;
+            }
+        }
+        final long data = ((long)score & 0xFFFFFFFFL) |
+                          ((long)move & MOVE_MASK) << MOVE_SHIFT |
+                          ((long)depth & DEPTH_MASK) << DEPTH_SHIFT |
+                          ((long)bound & BOUND_MASK) << BOUND_SHIFT |
+                          ((long)currentAge & AGE_MASK) << AGE_SHIFT;
+        this.entries[replaceIndex] = zobristKey ^ data;
+        this.entries[replaceIndex + 1] = data;
+        this.stores.increment();
+    }
+
+    private int bucketIndex(final long zobristKey) {
+        return ((int)(zobristKey >>> 32) & this.bucketMask) * 2 * ENTRIES_PER_BUCKET;
+    }
+
+    public void newSearch() {
+        this.age = (int)((this.age + 1) & AGE_MASK);
+    }
+
+    public void clear() {
+        Arrays.fill(this.entries, 0L);
+        this.hits.reset();
+        this.misses.reset();
+        this.collisions.reset();
+        this.stores.reset();
+        this.age = 0;
+    }
+
+    public static int getScore(final long data) {
+        return (int)data;
+    }
+
+    public static int getMove(final long data) {
+        final int move = (int)((data >>> MOVE_SHIFT) & MOVE_MASK);
+        return move == MOVE_MASK ? EncodedMove.NONE : move;
+    }
+
+    public static int getDepth(final long data) {
+        return (int)((data >>> DEPTH_SHIFT) & DEPTH_MASK);
+    }
+
+    public static int getBound(final long data) {
+        return (int)((data >>> BOUND_SHIFT) & BOUND_MASK);
+    }
+
+    private static int getAge(final long data) {
+        return (int)((data >>> AGE_SHIFT) & AGE_MASK);
+    }
+
+    public int getCapacity() {
+        return this.entries.length / 2;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getCollisions() {
+        return this.collisions.sum();
+    }
+
+    public long getStores() {
+        return this.stores.sum();
+    }
+
+    public double getHitRate() {
+        final long probes = this.getHits() + this.getMisses() + this.getCollisions();
+        return probes == 0 ? 0.0 : (double)this.getHits() / probes;
+    }
+
+    public double getCollisionRate() {
+        final long probes = this.getHits() + this.getMisses() + this.getCollisions();
+        return probes == 0 ? 0.0 : (double)this.getCollisions() / probes;
+    }
+}
@@ -0,0 +1,34 @@
+package com.chess.game.board;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MagicBitBoardsTest {
+
+    @Test
+    public void rookAttacksMatchRayWalkForAllOccupancySubsets() {
+        for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+            final long mask = MagicBitBoards.getRookMask(i);
+            long subset = BitBoards.EMPTY;
+            do {
+                assertEquals("Rook attacks from tile " + i, MagicBitBoards.rookAttacksByRayWalk(i, subset), MagicBitBoards.rookAttacks(i, subset));
+                assertEquals("Rook attacks from tile " + i, MagicBitBoards.rookAttacksByRayWalk(i, subset | ~mask), MagicBitBoards.rookAttacks(i, subset | ~mask));
+                subset = (subset - mask) & mask;
+            } while (subset != BitBoards.EMPTY);
+        }
+    }
+
+    @Test
+    public void bishopAttacksMatchRayWalkForAllOccupancySubsets() {
+        for (int i = 0; i < BoardUtils.NUMBER_OF_BOARD_TILES; i++) {
+            final long mask = MagicBitBoards.getBishopMask(i);
+            long subset = BitBoards.EMPTY;
+            do {
+                assertEquals("Bishop attacks from tile " + i, MagicBitBoards.bishopAttacksByRayWalk(i, subset), MagicBitBoards.bishopAttacks(i, subset));
+                assertEquals("Bishop attacks from tile " + i, MagicBitBoards.bishopAttacksByRayWalk(i, subset | ~mask), MagicBitBoards.bishopAttacks(i, subset | ~mask));
+                subset = (subset - mask) & mask;
+            } while (subset != BitBoards.EMPTY);
+        }
+    }
+}
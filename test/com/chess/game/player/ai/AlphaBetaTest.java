@@ -0,0 +1,70 @@
+package com.chess.game.player.ai;
+
+import com.chess.game.Alliance;
+import com.chess.game.board.Board;
+import com.chess.game.board.EncodedMove;
+import com.chess.game.board.FenParser;
+import com.chess.game.board.MutableBoard;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class AlphaBetaTest {
+    private static final int SEARCH_DEPTH = 3;
+
+    private static final String[] POSITIONS = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r1bqkb1r/pppp1ppp/2n2n2/4p2Q/2B1P3/8/PPPP1PPP/RNB1K1NR w KQkq - 4 4",
+            "rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3",
+            "r1bq1rk1/pp2bppp/2n1pn2/3p4/2PP4/2N1PN2/PP3PPP/R2QKB1R b KQ - 0 8",
+            "6k1/5ppp/8/8/8/8/5PPP/3R2K1 w - - 0 1",
+            "4k3/8/8/8/8/8/4q3/4K3 w - - 0 1"
+    };
+
+    @Test
+    public void bestScoreMatchesMiniMaxWithoutMoveOrdering() {
+        for (final String fen : POSITIONS) {
+            assertEquals(fen, miniMaxScore(fen), alphaBetaScore(fen, new AlphaBeta(SEARCH_DEPTH, null, null, false)));
+        }
+    }
+
+    @Test
+    public void bestScoreMatchesMiniMaxWithMoveOrdering() {
+        for (final String fen : POSITIONS) {
+            assertEquals(fen, miniMaxScore(fen), alphaBetaScore(fen, new AlphaBeta(SEARCH_DEPTH, null, new MoveOrderer(), false)));
+        }
+    }
+
+    @Test
+    public void hashMoveIsOrderedWithoutMoveOrderer() {
+        for (final String fen : POSITIONS) {
+            final MutableBoard position = new MutableBoard(FenParser.createBoard(fen));
+            final AlphaBeta alphaBeta = new AlphaBeta(SEARCH_DEPTH, new TranspositionTable(16), null, false);
+            alphaBeta.newSearch();
+            alphaBeta.setLimits(AlphaBeta.NO_LIMIT, AlphaBeta.NO_LIMIT);
+            // Later iterations find hash moves from earlier ones, captures included.
+            int bestMove = EncodedMove.NONE;
+            for (int depth = 1; depth <= SEARCH_DEPTH; depth++) {
+                bestMove = alphaBeta.searchRoot(position, depth, bestMove);
+                assertNotEquals(fen, EncodedMove.NONE, bestMove);
+            }
+        }
+    }
+
+    private static int miniMaxScore(final String fen) {
+        final MutableBoard position = new MutableBoard(FenParser.createBoard(fen));
+        final MiniMax miniMax = new MiniMax(SEARCH_DEPTH);
+        return position.getSideToMove() == Alliance.WHITE ? miniMax.max(position, SEARCH_DEPTH) : -miniMax.min(position, SEARCH_DEPTH);
+    }
+
+    private static int alphaBetaScore(final String fen, final AlphaBeta alphaBeta) {
+        final Board board = FenParser.createBoard(fen);
+        alphaBeta.newSearch();
+        alphaBeta.setLimits(AlphaBeta.NO_LIMIT, AlphaBeta.NO_LIMIT);
+        assertNotEquals(fen, EncodedMove.NONE, alphaBeta.searchRoot(new MutableBoard(board), SEARCH_DEPTH, EncodedMove.NONE));
+        return alphaBeta.getBestValue();
+    }
+}